@@ -0,0 +1,72 @@
+package chess.benchmark;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.dto.BoardDto;
+import chess.util.BoardRenderer;
+import chess.util.PieceRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardDtoBenchmark {
+    private Board board;
+    private List<BoardDto> boardDtoList;
+
+    @Setup
+    public void setup() {
+        board = new ChessGame(new RoomName("benchmark")).getChessboard();
+        boardDtoList = BoardRenderer.render(board);
+    }
+
+    @Benchmark
+    public List<BoardDto> boardToDto() {
+        return BoardRenderer.render(board);
+    }
+
+    @Benchmark
+    public Board dtoToBoard() {
+        Board loadedBoard = new BitboardChessboard();
+        BoardRenderer.putPieces(loadedBoard, boardDtoList);
+
+        return loadedBoard;
+    }
+
+    @Benchmark
+    public void squareLookup(Blackhole blackhole) {
+        for (Rank rank : Rank.values()) {
+            for (File file : File.values()) {
+                blackhole.consume(Square.getInstanceOf(file, rank));
+            }
+        }
+    }
+
+    @Benchmark
+    public void pieceRendering(Blackhole blackhole) {
+        for (BoardDto boardDto : boardDtoList) {
+            blackhole.consume(PieceRenderer.render(PieceRenderer.render(boardDto.getPiece())));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package chess.benchmark;
+
+import chess.domain.BoardInitializer;
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.domain.board.Chessboard;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.domain.move.MoveList;
+import chess.domain.piece.Camp;
+import chess.util.FenRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChessGameBenchmark {
+    private static final String MIDDLE_GAME = "r1bq1rk1/pp2bppp/2n1pn2/3p4/2PP4/2N1PN2/PP2BPPP/R2QKB1R w - - 0 1";
+    private static final RoomName ROOM_NAME = new RoomName("benchmark");
+
+    private final Square source = Square.getInstanceOf(File.E, Rank.TWO);
+    private final Square target = Square.getInstanceOf(File.E, Rank.FOUR);
+    private final Square invalidTarget = Square.getInstanceOf(File.E, Rank.FIVE);
+    private final MoveList moves = new MoveList();
+
+    @Param({"bitboard", "map"})
+    private String boardType;
+
+    private ChessGame initialGame;
+    private ChessGame middleGame;
+
+    @Setup
+    public void setup() {
+        initialGame = new ChessGame(ROOM_NAME, createInitialBoard());
+        middleGame = new ChessGame(ROOM_NAME, copyToBoardType(FenRenderer.render(ROOM_NAME, MIDDLE_GAME)));
+    }
+
+    private Board createBoard() {
+        if (boardType.equals("map")) {
+            return new Chessboard();
+        }
+
+        return new BitboardChessboard();
+    }
+
+    private Board createInitialBoard() {
+        Board board = createBoard();
+        BoardInitializer.initializeBoard(board);
+
+        return board;
+    }
+
+    private Board copyToBoardType(ChessGame chessGame) {
+        Board board = createBoard();
+        chessGame.getChessboard().getBoardMap().forEach(board::putPiece);
+
+        return board;
+    }
+
+    @Benchmark
+    public Board boardInitialization() {
+        return createInitialBoard();
+    }
+
+    @Benchmark
+    public ChessGame validMove() {
+        ChessGame chessGame = initialGame.copy();
+        chessGame.move(source, target);
+
+        return chessGame;
+    }
+
+    @Benchmark
+    public void invalidMove(Blackhole blackhole) {
+        ChessGame chessGame = initialGame.copy();
+
+        try {
+            chessGame.move(source, invalidTarget);
+        } catch (IllegalArgumentException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public MoveList legalMoveGeneration() {
+        return middleGame.generateLegalMoves(moves);
+    }
+
+    @Benchmark
+    public void scoreCalculation(Blackhole blackhole) {
+        blackhole.consume(middleGame.calculateScoreOf(Camp.WHITE));
+        blackhole.consume(middleGame.calculateScoreOf(Camp.BLACK));
+    }
+}
@@ -0,0 +1,114 @@
+package chess.benchmark;
+
+import chess.dao.DriverManagerDataSource;
+import chess.dao.JdbcDao;
+import chess.dao.SchemaInitializer;
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardCodec;
+import chess.util.BoardRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JdbcDaoBenchmark {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:chess;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String ROOM_NAME = "benchmark";
+    private static final String BINARY_ROOM_NAME = "binary";
+
+    private JdbcDao jdbcDao;
+    private List<BoardDto> boardDtoList;
+    private GameRoomDto gameRoomDto;
+    private GameRoomDto binaryGameRoomDto;
+    private byte[] boardState;
+
+    @Setup
+    public void setup() {
+        DataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "");
+        SchemaInitializer.initialize(dataSource);
+
+        jdbcDao = new JdbcDao(dataSource);
+        boardDtoList = BoardRenderer.render(new ChessGame(new RoomName(ROOM_NAME)).getChessboard());
+        gameRoomDto = new GameRoomDto(ROOM_NAME, true);
+
+        jdbcDao.deleteAllByName(ROOM_NAME);
+        jdbcDao.save(boardDtoList, gameRoomDto);
+
+        Board board = new BitboardChessboard();
+        BoardRenderer.putPieces(board, boardDtoList);
+        boardState = BoardCodec.encode(board, true);
+        binaryGameRoomDto = new GameRoomDto(BINARY_ROOM_NAME, true);
+        jdbcDao.saveBoardState(binaryGameRoomDto, boardState);
+    }
+
+    @Benchmark
+    public void saveAndDelete() {
+        jdbcDao.deleteAllByName(ROOM_NAME);
+        jdbcDao.save(boardDtoList, gameRoomDto);
+    }
+
+    @Benchmark
+    public void update() {
+        jdbcDao.update(boardDtoList, gameRoomDto);
+    }
+
+    @Benchmark
+    public void load(Blackhole blackhole) {
+        blackhole.consume(jdbcDao.findGameRoomByName(ROOM_NAME));
+        blackhole.consume(jdbcDao.findBoardByRoomName(ROOM_NAME));
+    }
+
+    @Benchmark
+    public void loadRowsIntoBoard(Blackhole blackhole) {
+        Board board = new BitboardChessboard();
+
+        blackhole.consume(jdbcDao.findGameRoomByName(ROOM_NAME));
+        BoardRenderer.putPieces(board, jdbcDao.findBoardByRoomName(ROOM_NAME));
+        blackhole.consume(board);
+    }
+
+    @Benchmark
+    public void loadGameRoomIntoBoard(Blackhole blackhole) {
+        Board board = new BitboardChessboard();
+
+        blackhole.consume(jdbcDao.loadGameRoom(ROOM_NAME, board));
+        blackhole.consume(board);
+    }
+
+    @Benchmark
+    public void saveBinary() {
+        jdbcDao.saveBoardState(binaryGameRoomDto, boardState);
+    }
+
+    @Benchmark
+    public void loadBinaryIntoBoard(Blackhole blackhole) {
+        Board board = new BitboardChessboard();
+        byte[] loaded = jdbcDao.findBoardStateByRoomName(BINARY_ROOM_NAME).orElseThrow();
+
+        BoardCodec.decode(loaded, board);
+        blackhole.consume(BoardCodec.isWhiteTurn(loaded));
+        blackhole.consume(board);
+    }
+}
@@ -0,0 +1,81 @@
+package chess.benchmark;
+
+import chess.domain.BoardInitializer;
+import chess.domain.board.Board;
+import chess.domain.board.Chessboard;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.domain.piece.PieceType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteBenchmark {
+    private final Square[][] routes = {
+            {Square.getInstanceOf(File.A, Rank.TWO), Square.getInstanceOf(File.A, Rank.SEVEN)},
+            {Square.getInstanceOf(File.A, Rank.ONE), Square.getInstanceOf(File.H, Rank.ONE)},
+            {Square.getInstanceOf(File.A, Rank.TWO), Square.getInstanceOf(File.G, Rank.EIGHT)},
+            {Square.getInstanceOf(File.H, Rank.THREE), Square.getInstanceOf(File.C, Rank.EIGHT)},
+            {Square.getInstanceOf(File.D, Rank.FOUR), Square.getInstanceOf(File.D, Rank.FIVE)}
+    };
+
+    private Board chessboard;
+
+    @Setup
+    public void setup() {
+        chessboard = new Chessboard();
+        BoardInitializer.initializeBoard(chessboard);
+    }
+
+    @Benchmark
+    public void squareListRoute(Blackhole blackhole) {
+        for (Square[] route : routes) {
+            blackhole.consume(isEmptyInSquareListRoute(route[0], route[1]));
+        }
+    }
+
+    @Benchmark
+    public void betweenTableRoute(Blackhole blackhole) {
+        for (Square[] route : routes) {
+            blackhole.consume(chessboard.isEmptyInRoute(route[0], route[1]));
+        }
+    }
+
+    private boolean isEmptyInSquareListRoute(Square source, Square target) {
+        return getMovableRoute(source, target)
+                .stream()
+                .filter(square -> chessboard.getPieceAt(square).getPieceType() != PieceType.EMPTY)
+                .findAny()
+                .isEmpty();
+    }
+
+    private List<Square> getMovableRoute(Square source, Square target) {
+        if (source.isSameFile(target)) {
+            return source.getSquaresInSameFile(target);
+        }
+
+        if (source.isSameRank(target)) {
+            return source.getSquaresInSameRank(target);
+        }
+
+        return source.getDiagonalSquares(target);
+    }
+}
@@ -0,0 +1,115 @@
+package chess.benchmark;
+
+import chess.dao.InMemoryGameRepository;
+import chess.dao.WriteBehindQueue;
+import chess.domain.RoomName;
+import chess.server.RoomActor;
+import chess.server.RoomCommandHandler;
+import chess.server.SessionThreadMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SessionThreadBenchmark {
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final int ROOM_COUNT = 100;
+    private static final int REQUESTS_PER_SESSION = 3;
+    private static final long IDLE_MILLIS = 10;
+
+    @Param({"PLATFORM_POOL", "VIRTUAL"})
+    private String threadMode;
+
+    @Param({"1000", "10000"})
+    private int sessions;
+
+    private WriteBehindQueue writeBehindQueue;
+    private ExecutorService roomExecutor;
+    private List<RoomActor> rooms;
+    private RoomCommandHandler commandHandler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        InMemoryGameRepository gameRepository = new InMemoryGameRepository();
+
+        writeBehindQueue = new WriteBehindQueue(gameRepository, 1024, 256, Duration.ofSeconds(1));
+        roomExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        commandHandler = new RoomCommandHandler(gameRepository, writeBehindQueue);
+        rooms = new ArrayList<>();
+        for (int room = 0; room < ROOM_COUNT; room++) {
+            RoomName roomName = new RoomName("room" + room);
+            rooms.add(new RoomActor(() -> commandHandler.load(roomName), roomExecutor));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        roomExecutor.shutdown();
+        writeBehindQueue.close();
+    }
+
+    @Benchmark
+    public int serveSessions() throws Exception {
+        ExecutorService sessionExecutor = createSessionExecutor();
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try {
+            for (int session = 0; session < sessions; session++) {
+                RoomActor room = rooms.get(session % ROOM_COUNT);
+                results.add(sessionExecutor.submit(() -> serveSession(room)));
+            }
+
+            int responseLength = 0;
+            for (Future<Integer> result : results) {
+                responseLength += result.get();
+            }
+            return responseLength;
+        } finally {
+            sessionExecutor.shutdown();
+        }
+    }
+
+    private ExecutorService createSessionExecutor() {
+        if ("VIRTUAL".equals(threadMode)) {
+            return SessionThreadMode.VIRTUAL.createExecutor();
+        }
+
+        return Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    private int serveSession(RoomActor room) throws InterruptedException {
+        int responseLength = 0;
+
+        for (int request = 0; request < REQUESTS_PER_SESSION; request++) {
+            Thread.sleep(IDLE_MILLIS);
+            responseLength += room.ask(chessGame -> commandHandler.handle(chessGame, List.of("board")))
+                    .join()
+                    .length();
+        }
+
+        return responseLength;
+    }
+}
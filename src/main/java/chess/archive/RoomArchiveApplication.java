@@ -0,0 +1,25 @@
+package chess.archive;
+
+import chess.dao.ConnectionPool;
+import chess.dao.DatabaseProperties;
+import chess.dao.RoomArchiveJob;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+public class RoomArchiveApplication {
+    public static void main(String[] args) {
+        DatabaseProperties databaseProperties = DatabaseProperties.load();
+
+        try (ConnectionPool connectionPool = databaseProperties.createArchiveConnectionPool()) {
+            Path archivePath = RoomArchiveJob.resolveRunPath(databaseProperties.getArchivePath(), Instant.now());
+            long startTime = System.nanoTime();
+            int purged = databaseProperties.createRoomArchiveJob(connectionPool)
+                    .run(databaseProperties.getArchiveMaxIdle(), archivePath);
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+            System.out.printf("보관 후 삭제한 방: %d개 (%s, %dms)%n",
+                    purged, archivePath, elapsedMillis);
+        }
+    }
+}
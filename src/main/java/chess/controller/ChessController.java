@@ -1,21 +1,26 @@
 package chess.controller;
 
-import chess.dao.JdbcDao;
+import chess.dao.ConnectionPool;
+import chess.dao.DatabaseProperties;
+import chess.dao.GameCache;
+import chess.dao.GameRepository;
+import chess.dao.MoveJournal;
+import chess.dao.MoveLogDao;
+import chess.dao.WriteBehindQueue;
 import chess.domain.ChessGame;
 import chess.domain.RoomName;
-import chess.domain.board.Chessboard;
+import chess.domain.board.Board;
 import chess.domain.board.Square;
-import chess.domain.piece.Piece;
+import chess.domain.move.Move;
 import chess.domain.piece.PieceType;
 import chess.dto.BoardDto;
 import chess.dto.GameRoomDto;
-import chess.util.PieceRenderer;
+import chess.util.BoardRenderer;
 import chess.util.SquareRenderer;
 import chess.view.Command;
 import chess.view.InputView;
 import chess.view.OutputView;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -23,53 +28,68 @@ import java.util.function.Supplier;
 public class ChessController {
     private final InputView inputView;
     private final OutputView outputView;
-    private final JdbcDao jdbcDao;
+    private final GameRepository gameRepository;
+    private final GameCache gameCache;
+    private final Optional<ConnectionPool> connectionPool;
+    private final Optional<MoveJournal> moveJournal;
+    private final WriteBehindQueue writeBehindQueue;
 
     public ChessController() {
+        DatabaseProperties databaseProperties = DatabaseProperties.load();
+
         this.inputView = new InputView();
         this.outputView = new OutputView();
-        this.jdbcDao = new JdbcDao();
+        this.connectionPool = databaseProperties.createConnectionPoolIfJdbc();
+        this.gameRepository = connectionPool.map(databaseProperties::createGameRepository)
+                .orElseGet(databaseProperties::createGameRepository);
+        this.gameCache = databaseProperties.createGameCache(gameRepository);
+        this.moveJournal = connectionPool.map(pool ->
+                new MoveJournal(new MoveLogDao(pool), databaseProperties.getSnapshotInterval()));
+        this.writeBehindQueue = databaseProperties.createWriteBehindQueue(gameRepository);
     }
 
     public void run() {
         RoomName roomName = new RoomName(retryOnInvalidUserInput(inputView::requestRoomName));
-        ChessGame chessGame = new ChessGame(roomName);
 
         outputView.printStartMessage();
-        initializeGameState(chessGame);
+        ChessGame chessGame = restore(roomName)
+                .orElseGet(() -> gameCache.get(roomName));
+        moveJournal.ifPresent(journal -> journal.start(chessGame));
         if (retryOnInvalidUserInput(this::isStartCommand)) {
             play(chessGame);
         }
-        outputView.printChessBoard(chessGame.getChessboard());
+        outputView.printChessBoard(chessGame.getPosition());
         outputView.printScoreMessage(chessGame);
 
         updateGameState(chessGame);
-    }
-
-    private void initializeGameState(ChessGame chessGame) {
-        setCorrectTurn(chessGame);
-        setRecordedBoard(chessGame);
-    }
-
-    private void setRecordedBoard(ChessGame chessGame) {
-        List<BoardDto> recordedBoard = jdbcDao.findBoardByRoomName(chessGame.getRoomName());
-
-        Chessboard chessboard = chessGame.getChessboard();
-        for (BoardDto boardDto : recordedBoard) {
-            Square source = SquareRenderer.render(boardDto.getSource());
-            Piece piece = PieceRenderer.render(boardDto.getPiece());
-
-            chessboard.putPiece(source, piece);
+        boolean saved = closeWriteBehindQueue();
+        gameRepository.close();
+        moveJournal.ifPresent(journal -> {
+            if (saved) {
+                journal.clear(chessGame.getRoomName());
+            }
+            journal.close();
+        });
+        connectionPool.ifPresent(ConnectionPool::close);
+    }
+
+    private boolean closeWriteBehindQueue() {
+        try {
+            writeBehindQueue.close();
+            return true;
+        } catch (IllegalStateException e) {
+            outputView.printError(e.getMessage());
+            return false;
         }
     }
 
-    private void setCorrectTurn(ChessGame chessGame) {
-        jdbcDao.findGameRoomByName(chessGame.getRoomName())
-                .ifPresent(gameRoom -> {
-                    if (!gameRoom.isWhiteTurn()) {
-                        chessGame.passTurn();
-                    }
-                });
+    private Optional<ChessGame> restore(RoomName roomName) {
+        try {
+            return moveJournal.flatMap(journal -> journal.restore(roomName));
+        } catch (RuntimeException e) {
+            outputView.printError("기보를 복원하지 못해 마지막으로 저장된 게임을 불러옵니다.");
+            return Optional.empty();
+        }
     }
 
     private boolean isStartCommand() {
@@ -95,11 +115,12 @@ public class ChessController {
     private void play(ChessGame chessGame) {
         Optional<List<String>> commands;
         do {
-            outputView.printChessBoard(chessGame.getChessboard());
+            outputView.printChessBoard(chessGame.getPosition());
+            outputView.printCheckMessage(chessGame);
             commands = retryOnInvalidUserInput(this::handleCommand);
 
             commands.ifPresent(command -> actionForCommand(chessGame, command));
-        } while (commands.isPresent() && chessGame.isBothKingAlive());
+        } while (commands.isPresent() && !chessGame.isGameOver());
     }
 
     private Optional<List<String>> handleCommand() {
@@ -126,7 +147,6 @@ public class ChessController {
         }
 
         movePiece(chessGame, command);
-        checkPromotion(chessGame, command);
     }
 
     private void movePiece(ChessGame chessGame, List<String> command) {
@@ -135,16 +155,28 @@ public class ChessController {
         Square source = SquareRenderer.render(sourceCommand);
         Square target = SquareRenderer.render(targetCommand);
 
-        retryOnInvalidAction(() -> chessGame.move(source, target));
+        PieceType promotion = checkPromotion(chessGame, source, target);
+
+        if (retryOnInvalidAction(() -> chessGame.move(source, target, promotion))) {
+            moveJournal.ifPresent(journal -> journal.record(chessGame, createMove(source, target, promotion)));
+            saveGameState(chessGame);
+        }
     }
 
-    private void checkPromotion(ChessGame chessGame, List<String> command) {
-        Square movedSquare = SquareRenderer.render(command.get(Index.TARGET_SQUARE.value));
+    private int createMove(Square source, Square target, PieceType promotion) {
+        if (promotion == PieceType.EMPTY) {
+            return Move.of(source, target);
+        }
+
+        return Move.of(source.getIndex(), target.getIndex(), promotion);
+    }
 
-        if (chessGame.canPromotion(movedSquare)) {
-            PieceType pieceType = requestPieceType();
-            chessGame.promotePawn(movedSquare, pieceType);
+    private PieceType checkPromotion(ChessGame chessGame, Square source, Square target) {
+        if (chessGame.isPromotionMove(source, target)) {
+            return requestPieceType();
         }
+
+        return PieceType.EMPTY;
     }
 
     private PieceType requestPieceType() {
@@ -152,33 +184,23 @@ public class ChessController {
     }
 
     private void updateGameState(ChessGame chessGame) {
-        if (!chessGame.isBothKingAlive()) {
-            jdbcDao.deleteAllByName(chessGame.getRoomName());
+        if (chessGame.isGameOver()) {
+            gameCache.invalidate(new RoomName(chessGame.getRoomName()));
+            writeBehindQueue.delete(chessGame.getRoomName());
             return;
         }
 
-        if (jdbcDao.findGameRoomByName(chessGame.getRoomName()).isEmpty()) {
-            GameRoomDto gameRoomDto = new GameRoomDto(chessGame.getRoomName(), chessGame.isWhiteTurn());
-            jdbcDao.save(createBoardDto(chessGame), gameRoomDto);
-            return;
-        }
-
-        GameRoomDto gameRoomDto = new GameRoomDto(chessGame.getRoomName(), chessGame.isWhiteTurn());
-        jdbcDao.update(createBoardDto(chessGame), gameRoomDto);
+        saveGameState(chessGame);
     }
 
-    private List<BoardDto> createBoardDto(ChessGame chessGame) {
-        Chessboard board = chessGame.getChessboard();
-
-        List<BoardDto> boardDtoList = new ArrayList<>();
-        for (Square square : board.getBoardMap().keySet()) {
-            String source = SquareRenderer.render(square);
-            String piece = PieceRenderer.render(board.getPieceAt(square));
+    private void saveGameState(ChessGame chessGame) {
+        Board board = chessGame.getChessboard();
+        GameRoomDto gameRoomDto = new GameRoomDto(chessGame.getRoomName(), chessGame.isWhiteTurn());
 
-            boardDtoList.add(new BoardDto(source, piece));
-        }
+        List<BoardDto> changedBoardDto = BoardRenderer.render(board, board.getDirtySquares());
 
-        return boardDtoList;
+        writeBehindQueue.update(gameRoomDto, chessGame.getPosition(), changedBoardDto);
+        board.clearDirtySquares();
     }
 
 
@@ -191,11 +213,13 @@ public class ChessController {
         }
     }
 
-    private void retryOnInvalidAction(ActionFunction request) {
+    private boolean retryOnInvalidAction(ActionFunction request) {
         try {
             request.run();
+            return true;
         } catch (IllegalArgumentException e) {
             outputView.printError(e.getMessage());
+            return false;
         }
     }
 
@@ -0,0 +1,40 @@
+package chess.dao;
+
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.dto.GameRoomDto;
+import chess.util.BoardCodec;
+import chess.util.BoardRenderer;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+public class BoardStateMigration {
+    private final DataSource dataSource;
+    private final JdbcDao jdbcDao;
+
+    public BoardStateMigration(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcDao = new JdbcDao(dataSource);
+    }
+
+    public int migrate() {
+        SchemaMigration.migrate(dataSource);
+
+        List<String> roomNames = jdbcDao.findRoomNamesWithoutBoardState();
+        for (String roomName : roomNames) {
+            migrateRoom(roomName);
+        }
+
+        return roomNames.size();
+    }
+
+    private void migrateRoom(String roomName) {
+        GameRoomDto gameRoom = jdbcDao.findGameRoomByName(roomName)
+                .orElseThrow(() -> new IllegalStateException("존재하지 않는 방입니다: " + roomName));
+        Board board = new BitboardChessboard();
+
+        BoardRenderer.putPieces(board, jdbcDao.findBoardByRoomName(roomName));
+        jdbcDao.migrateBoardState(roomName, BoardCodec.encode(board, gameRoom.isWhiteTurn()));
+    }
+}
@@ -0,0 +1,21 @@
+package chess.dao;
+
+import java.util.Arrays;
+
+public enum BoardStorage {
+    ROWS("rows"),
+    BLOB("blob");
+
+    private final String value;
+
+    BoardStorage(String value) {
+        this.value = value;
+    }
+
+    public static BoardStorage from(String value) {
+        return Arrays.stream(values())
+                .filter(storage -> storage.value.equals(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("보드 저장 방식은 rows, blob 중 하나여야 합니다."));
+    }
+}
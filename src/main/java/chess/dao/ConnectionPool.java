@@ -0,0 +1,331 @@
+package chess.dao;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTimeoutException;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+public class ConnectionPool implements DataSource, AutoCloseable {
+    private static final long MIN_MAINTENANCE_INTERVAL_MILLIS = 1;
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 1;
+
+    private final DataSource dataSource;
+    private final ConnectionPoolConfig config;
+    private final BlockingDeque<IdleConnection> idleConnections;
+    private final Semaphore permits;
+    private final AtomicInteger activeCount;
+    private final AtomicLong acquisitionCount;
+    private final AtomicLong timeoutCount;
+    private final AtomicLong totalWaitNanos;
+    private final AtomicLong maxWaitNanos;
+    private final ScheduledExecutorService maintenanceExecutor;
+    private volatile boolean closed;
+
+    public ConnectionPool(DataSource dataSource, ConnectionPoolConfig config) {
+        this.dataSource = dataSource;
+        this.config = config;
+        this.idleConnections = new LinkedBlockingDeque<>();
+        this.permits = new Semaphore(config.getMaxSize(), true);
+        this.activeCount = new AtomicInteger();
+        this.acquisitionCount = new AtomicLong();
+        this.timeoutCount = new AtomicLong();
+        this.totalWaitNanos = new AtomicLong();
+        this.maxWaitNanos = new AtomicLong();
+        this.maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-pool-maintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long interval = Math.max(config.getIdleTimeout().toMillis() / 2, MIN_MAINTENANCE_INTERVAL_MILLIS);
+        maintenanceExecutor.scheduleWithFixedDelay(this::maintain, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        validateOpen();
+        long startTime = System.nanoTime();
+
+        if (!tryAcquirePermit()) {
+            timeoutCount.incrementAndGet();
+            throw new SQLTimeoutException(config.getAcquisitionTimeout().toMillis() + "ms 안에 커넥션을 얻지 못했습니다.");
+        }
+        recordWait(System.nanoTime() - startTime);
+
+        try {
+            Connection connection = takeIdleConnection();
+            activeCount.incrementAndGet();
+            return wrap(connection);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void validateOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("커넥션 풀이 닫혔습니다.");
+        }
+    }
+
+    private boolean tryAcquirePermit() throws SQLException {
+        try {
+            return permits.tryAcquire(config.getAcquisitionTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("커넥션을 기다리는 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        acquisitionCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private Connection takeIdleConnection() throws SQLException {
+        IdleConnection idleConnection;
+
+        while ((idleConnection = idleConnections.pollFirst()) != null) {
+            if (isUsable(idleConnection)) {
+                return idleConnection.connection;
+            }
+            closeQuietly(idleConnection.connection);
+        }
+
+        return dataSource.getConnection();
+    }
+
+    private boolean isUsable(IdleConnection idleConnection) {
+        Connection connection = idleConnection.connection;
+
+        try {
+            if (System.nanoTime() - idleConnection.releasedAt < VALIDATION_BYPASS_NANOS) {
+                return !connection.isClosed();
+            }
+            return connection.isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new PooledConnectionHandler(connection));
+    }
+
+    private void release(Connection connection) {
+        activeCount.decrementAndGet();
+
+        try {
+            if (closed || !reset(connection)) {
+                closeQuietly(connection);
+                return;
+            }
+            idleConnections.offerFirst(new IdleConnection(connection, System.nanoTime()));
+        } finally {
+            permits.release();
+        }
+    }
+
+    private boolean reset(Connection connection) {
+        try {
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            return !connection.isClosed();
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    void maintain() {
+        evictIdleConnections();
+
+        try {
+            fillToMinSize();
+        } catch (SQLException e) {
+            System.err.println("커넥션 풀 초기화 오류:" + e.getMessage());
+        }
+    }
+
+    private void evictIdleConnections() {
+        long idleTimeoutNanos = config.getIdleTimeout().toNanos();
+
+        while (countConnections() > config.getMinSize()) {
+            IdleConnection oldest = idleConnections.pollLast();
+
+            if (oldest == null) {
+                return;
+            }
+
+            if (System.nanoTime() - oldest.releasedAt < idleTimeoutNanos) {
+                idleConnections.offerLast(oldest);
+                return;
+            }
+            closeQuietly(oldest.connection);
+        }
+    }
+
+    private void fillToMinSize() throws SQLException {
+        while (!closed && countConnections() < config.getMinSize() && permits.tryAcquire()) {
+            try {
+                idleConnections.offerFirst(new IdleConnection(dataSource.getConnection(), System.nanoTime()));
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    private int countConnections() {
+        return idleConnections.size() + activeCount.get();
+    }
+
+    public ConnectionPoolMetrics getMetrics() {
+        return new ConnectionPoolMetrics(activeCount.get(), idleConnections.size(), acquisitionCount.get(),
+                timeoutCount.get(), totalWaitNanos.get(), maxWaitNanos.get());
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        maintenanceExecutor.shutdownNow();
+
+        IdleConnection idleConnection;
+        while ((idleConnection = idleConnections.pollFirst()) != null) {
+            closeQuietly(idleConnection.connection);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("커넥션 풀은 설정된 계정으로만 연결합니다.");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> type) throws SQLException {
+        if (isWrapperFor(type)) {
+            return type.cast(this);
+        }
+
+        throw new SQLException(type.getName() + "으로 변환할 수 없습니다.");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> type) {
+        return type.isInstance(this);
+    }
+
+    private static class IdleConnection {
+        private final Connection connection;
+        private final long releasedAt;
+
+        private IdleConnection(Connection connection, long releasedAt) {
+            this.connection = connection;
+            this.releasedAt = releasedAt;
+        }
+    }
+
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Connection connection;
+        private final AtomicBoolean released;
+
+        private PooledConnectionHandler(Connection connection) {
+            this.connection = connection;
+            this.released = new AtomicBoolean();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+
+            if (methodName.equals("close")) {
+                if (released.compareAndSet(false, true)) {
+                    release(connection);
+                }
+                return null;
+            }
+
+            if (methodName.equals("isClosed")) {
+                return released.get() || connection.isClosed();
+            }
+
+            if (methodName.equals("isWrapperFor")) {
+                return ((Class<?>) args[0]).isInstance(proxy);
+            }
+
+            if (methodName.equals("unwrap")) {
+                return unwrap(proxy, (Class<?>) args[0]);
+            }
+
+            if (released.get()) {
+                throw new SQLException("이미 반환된 커넥션입니다.");
+            }
+
+            try {
+                return method.invoke(connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private Object unwrap(Object proxy, Class<?> type) throws SQLException {
+            if (type.isInstance(proxy)) {
+                return proxy;
+            }
+
+            throw new SQLException("풀에서 빌린 커넥션은 " + type.getName() + "으로 변환할 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package chess.dao;
+
+import java.time.Duration;
+
+public class ConnectionPoolConfig {
+    private final int minSize;
+    private final int maxSize;
+    private final Duration idleTimeout;
+    private final Duration acquisitionTimeout;
+
+    public ConnectionPoolConfig(int minSize, int maxSize, Duration idleTimeout, Duration acquisitionTimeout) {
+        validateSize(minSize, maxSize);
+        validateTimeout(idleTimeout);
+        validateTimeout(acquisitionTimeout);
+
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.idleTimeout = idleTimeout;
+        this.acquisitionTimeout = acquisitionTimeout;
+    }
+
+    private void validateSize(int minSize, int maxSize) {
+        if (minSize < 0 || maxSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("커넥션 풀 크기는 0 <= 최소 크기 <= 최대 크기, 1 <= 최대 크기여야 합니다.");
+        }
+    }
+
+    private void validateTimeout(Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("커넥션 풀 대기 시간은 0보다 커야 합니다.");
+        }
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    public Duration getAcquisitionTimeout() {
+        return acquisitionTimeout;
+    }
+}
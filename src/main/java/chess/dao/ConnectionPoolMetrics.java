@@ -0,0 +1,52 @@
+package chess.dao;
+
+public class ConnectionPoolMetrics {
+    private final int activeCount;
+    private final int idleCount;
+    private final long acquisitionCount;
+    private final long timeoutCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    public ConnectionPoolMetrics(int activeCount, int idleCount, long acquisitionCount, long timeoutCount,
+                                 long totalWaitNanos, long maxWaitNanos) {
+        this.activeCount = activeCount;
+        this.idleCount = idleCount;
+        this.acquisitionCount = acquisitionCount;
+        this.timeoutCount = timeoutCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public int getIdleCount() {
+        return idleCount;
+    }
+
+    public long getAcquisitionCount() {
+        return acquisitionCount;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    public long getTotalWaitNanos() {
+        return totalWaitNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    public long getAverageWaitNanos() {
+        if (acquisitionCount == 0) {
+            return 0;
+        }
+
+        return totalWaitNanos / acquisitionCount;
+    }
+}
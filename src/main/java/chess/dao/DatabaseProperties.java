@@ -0,0 +1,231 @@
+package chess.dao;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+
+public class DatabaseProperties {
+    private static final String PROPERTIES_PATH = "/database.properties";
+    private static final String SYSTEM_PROPERTY_PREFIX = "chess.";
+    private static final String URL = "db.url";
+    private static final String USERNAME = "db.username";
+    private static final String PASSWORD = "db.password";
+    private static final String POOL_MIN_SIZE = "db.pool.min-size";
+    private static final String POOL_MAX_SIZE = "db.pool.max-size";
+    private static final String POOL_IDLE_TIMEOUT_MILLIS = "db.pool.idle-timeout-millis";
+    private static final String POOL_ACQUISITION_TIMEOUT_MILLIS = "db.pool.acquisition-timeout-millis";
+    private static final String REPOSITORY = "db.repository";
+    private static final String REPOSITORY_BOARD_STORAGE = "db.repository.jdbc.board-storage";
+    private static final String REPOSITORY_FILE_PATH = "db.repository.file.path";
+    private static final String REPOSITORY_FILE_CAPACITY = "db.repository.file.capacity";
+    private static final String CACHE_MAX_SIZE = "db.cache.max-size";
+    private static final String CACHE_EXPIRE_AFTER_ACCESS_MILLIS = "db.cache.expire-after-access-millis";
+    private static final String CACHE_LOCK_STRIPES = "db.cache.lock-stripes";
+    private static final String ARCHIVE_MAX_IDLE_DAYS = "db.archive.max-idle-days";
+    private static final String ARCHIVE_CHUNK_SIZE = "db.archive.chunk-size";
+    private static final String ARCHIVE_PATH = "db.archive.path";
+    private static final String ARCHIVE_URL_OPTIONS = "db.archive.url-options";
+    private static final String SNAPSHOT_INTERVAL = "db.move-log.snapshot-interval";
+    private static final String WRITE_BEHIND_CAPACITY = "db.write-behind.capacity";
+    private static final String WRITE_BEHIND_FLUSH_SIZE = "db.write-behind.flush-size";
+    private static final String WRITE_BEHIND_FLUSH_INTERVAL_MILLIS = "db.write-behind.flush-interval-millis";
+    private static final String JDBC_REPOSITORY = "jdbc";
+
+    private final Properties properties;
+
+    private DatabaseProperties(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static DatabaseProperties load() {
+        Properties properties = readProperties();
+
+        for (String key : properties.stringPropertyNames()) {
+            String overridden = System.getProperty(SYSTEM_PROPERTY_PREFIX + key);
+
+            if (overridden != null) {
+                properties.setProperty(key, overridden);
+            }
+        }
+
+        return new DatabaseProperties(properties);
+    }
+
+    private static Properties readProperties() {
+        try (InputStream inputStream = DatabaseProperties.class.getResourceAsStream(PROPERTIES_PATH)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("DB 설정 파일을 찾을 수 없습니다.");
+            }
+
+            Properties properties = new Properties();
+            properties.load(inputStream);
+            return properties;
+        } catch (IOException e) {
+            throw new IllegalStateException("DB 설정 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    public Optional<ConnectionPool> createConnectionPoolIfJdbc() {
+        if (!isJdbcRepository()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(createMigratedConnectionPool());
+    }
+
+    public ConnectionPool createMigratedConnectionPool() {
+        return migrate(createConnectionPool());
+    }
+
+    public ConnectionPool createArchiveConnectionPool() {
+        return migrate(new ConnectionPool(new DriverManagerDataSource(getArchiveUrl(), getUsername(), getPassword()),
+                createPoolConfig()));
+    }
+
+    private ConnectionPool migrate(ConnectionPool connectionPool) {
+
+        try {
+            SchemaMigration.migrate(connectionPool);
+            return connectionPool;
+        } catch (RuntimeException e) {
+            connectionPool.close();
+            throw e;
+        }
+    }
+
+    public ConnectionPool createConnectionPool() {
+        return new ConnectionPool(new DriverManagerDataSource(getUrl(), getUsername(), getPassword()),
+                createPoolConfig());
+    }
+
+    public ConnectionPoolConfig createPoolConfig() {
+        return new ConnectionPoolConfig(
+                getInt(POOL_MIN_SIZE),
+                getInt(POOL_MAX_SIZE),
+                Duration.ofMillis(getInt(POOL_IDLE_TIMEOUT_MILLIS)),
+                Duration.ofMillis(getInt(POOL_ACQUISITION_TIMEOUT_MILLIS))
+        );
+    }
+
+    public GameRepository createGameRepository(DataSource dataSource) {
+        if (isJdbcRepository()) {
+            return new JdbcDao(dataSource, getBoardStorage());
+        }
+
+        return createGameRepository();
+    }
+
+    public GameRepository createGameRepository() {
+        String repository = getString(REPOSITORY);
+
+        if (JDBC_REPOSITORY.equals(repository)) {
+            throw new IllegalStateException("jdbc 저장소는 커넥션 풀이 필요합니다.");
+        }
+
+        if ("memory".equals(repository)) {
+            return new InMemoryGameRepository();
+        }
+
+        if ("file".equals(repository)) {
+            return new MappedFileGameRepository(Path.of(getString(REPOSITORY_FILE_PATH)),
+                    getInt(REPOSITORY_FILE_CAPACITY));
+        }
+
+        throw new IllegalStateException(REPOSITORY + " 설정은 jdbc, memory, file 중 하나여야 합니다.");
+    }
+
+    public BoardStorage getBoardStorage() {
+        try {
+            return BoardStorage.from(getString(REPOSITORY_BOARD_STORAGE));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(REPOSITORY_BOARD_STORAGE + " 설정은 rows, blob 중 하나여야 합니다.", e);
+        }
+    }
+
+    public boolean isJdbcRepository() {
+        return JDBC_REPOSITORY.equals(getString(REPOSITORY));
+    }
+
+    public GameCache createGameCache(GameRepository gameRepository) {
+        return new GameCache(
+                gameRepository,
+                getInt(CACHE_MAX_SIZE),
+                Duration.ofMillis(getInt(CACHE_EXPIRE_AFTER_ACCESS_MILLIS)),
+                getInt(CACHE_LOCK_STRIPES)
+        );
+    }
+
+    public WriteBehindQueue createWriteBehindQueue(GameRepository gameRepository) {
+        return new WriteBehindQueue(
+                gameRepository,
+                getInt(WRITE_BEHIND_CAPACITY),
+                getInt(WRITE_BEHIND_FLUSH_SIZE),
+                Duration.ofMillis(getInt(WRITE_BEHIND_FLUSH_INTERVAL_MILLIS))
+        );
+    }
+
+    public RoomArchiveJob createRoomArchiveJob(DataSource dataSource) {
+        return new RoomArchiveJob(dataSource, getInt(ARCHIVE_CHUNK_SIZE));
+    }
+
+    public Duration getArchiveMaxIdle() {
+        return Duration.ofDays(getInt(ARCHIVE_MAX_IDLE_DAYS));
+    }
+
+    public Path getArchivePath() {
+        return Path.of(getString(ARCHIVE_PATH));
+    }
+
+    public int getSnapshotInterval() {
+        return getInt(SNAPSHOT_INTERVAL);
+    }
+
+    public String getUrl() {
+        return getString(URL);
+    }
+
+    public String getArchiveUrl() {
+        String url = getUrl();
+        String options = getString(ARCHIVE_URL_OPTIONS);
+
+        if (options.isEmpty()) {
+            return url;
+        }
+
+        if (url.contains("?")) {
+            return url + "&" + options;
+        }
+
+        return url + "?" + options;
+    }
+
+    public String getUsername() {
+        return getString(USERNAME);
+    }
+
+    public String getPassword() {
+        return getString(PASSWORD);
+    }
+
+    private String getString(String key) {
+        String value = properties.getProperty(key);
+
+        if (value == null) {
+            throw new IllegalStateException(key + " 설정이 없습니다.");
+        }
+
+        return value.trim();
+    }
+
+    private int getInt(String key) {
+        try {
+            return Integer.parseInt(getString(key));
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(key + " 설정은 숫자여야 합니다.", e);
+        }
+    }
+}
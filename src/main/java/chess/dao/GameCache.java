@@ -0,0 +1,312 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.Position;
+import chess.domain.RoomName;
+import chess.domain.board.Board;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+public class GameCache {
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int DEFAULT_LOCK_STRIPES = 64;
+
+    private final GameRepository gameRepository;
+    private final int maxSize;
+    private final long expireAfterAccessNanos;
+    private final LongSupplier nanoTime;
+    private final ReentrantLock lock;
+    private final RoomLocks roomLocks;
+    private final LinkedHashMap<RoomName, CachedGame> games;
+    private final AtomicLong hitCount;
+    private final AtomicLong missCount;
+    private final AtomicLong evictionCount;
+
+    public GameCache(GameRepository gameRepository, int maxSize, Duration expireAfterAccess) {
+        this(gameRepository, maxSize, expireAfterAccess, new RoomLocks(DEFAULT_LOCK_STRIPES), System::nanoTime);
+    }
+
+    public GameCache(GameRepository gameRepository, int maxSize, Duration expireAfterAccess, int lockStripes) {
+        this(gameRepository, maxSize, expireAfterAccess, new RoomLocks(lockStripes), System::nanoTime);
+    }
+
+    GameCache(GameRepository gameRepository, int maxSize, Duration expireAfterAccess, LongSupplier nanoTime) {
+        this(gameRepository, maxSize, expireAfterAccess, new RoomLocks(DEFAULT_LOCK_STRIPES), nanoTime);
+    }
+
+    GameCache(GameRepository gameRepository, int maxSize, Duration expireAfterAccess, RoomLocks roomLocks,
+              LongSupplier nanoTime) {
+        validate(maxSize, expireAfterAccess);
+
+        this.gameRepository = gameRepository;
+        this.maxSize = maxSize;
+        this.expireAfterAccessNanos = expireAfterAccess.toNanos();
+        this.nanoTime = nanoTime;
+        this.lock = new ReentrantLock();
+        this.roomLocks = roomLocks;
+        this.games = new LinkedHashMap<>(16, LOAD_FACTOR, true);
+        this.hitCount = new AtomicLong();
+        this.missCount = new AtomicLong();
+        this.evictionCount = new AtomicLong();
+    }
+
+    private void validate(int maxSize, Duration expireAfterAccess) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+
+        if (expireAfterAccess.isNegative() || expireAfterAccess.isZero()) {
+            throw new IllegalArgumentException("캐시 만료 시간은 0보다 커야 합니다.");
+        }
+    }
+
+    public ChessGame get(RoomName roomName) {
+        ChessGame chessGame = roomLocks.execute(roomName, () -> findOrLoad(roomName));
+
+        evictStale();
+        return chessGame;
+    }
+
+    public <T> T execute(RoomName roomName, Function<ChessGame, T> action) {
+        T result = roomLocks.execute(roomName, () -> action.apply(findOrLoad(roomName)));
+
+        evictStale();
+        return result;
+    }
+
+    private ChessGame findOrLoad(RoomName roomName) {
+        ChessGame cached = findCached(roomName);
+
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+
+        missCount.incrementAndGet();
+        ChessGame loaded = gameRepository.loadGame(roomName);
+        put(roomName, loaded);
+        return loaded;
+    }
+
+    private ChessGame findCached(RoomName roomName) {
+        lock.lock();
+        try {
+            CachedGame cachedGame = games.get(roomName);
+
+            if (cachedGame == null) {
+                return null;
+            }
+
+            cachedGame.lastAccessNanos = nanoTime.getAsLong();
+            return cachedGame.chessGame;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(RoomName roomName, ChessGame chessGame) {
+        lock.lock();
+        try {
+            games.put(roomName, new CachedGame(roomName, chessGame, nanoTime.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(RoomName roomName) {
+        roomLocks.execute(roomName, () -> {
+            lock.lock();
+            try {
+                CachedGame removed = games.remove(roomName);
+                if (removed != null) {
+                    removed.resident = false;
+                }
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private void evictStale() {
+        evictExpired();
+        evictOverflow();
+    }
+
+    public void evictExpired() {
+        long now = nanoTime.getAsLong();
+
+        for (CachedGame candidate : collectExpired(now)) {
+            evict(candidate, cachedGame -> cachedGame.isExpired(now, expireAfterAccessNanos));
+        }
+    }
+
+    private void evictOverflow() {
+        for (CachedGame candidate : collectOverflow()) {
+            evict(candidate, cachedGame -> games.size() > maxSize);
+        }
+    }
+
+    public void evictAll() {
+        for (CachedGame candidate : collectAll()) {
+            evict(candidate, cachedGame -> true);
+        }
+    }
+
+    private List<CachedGame> collectExpired(long now) {
+        List<CachedGame> candidates = new ArrayList<>();
+
+        lock.lock();
+        try {
+            for (CachedGame cachedGame : games.values()) {
+                if (!cachedGame.isExpired(now, expireAfterAccessNanos)) {
+                    break;
+                }
+                candidates.add(cachedGame);
+            }
+            return candidates;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<CachedGame> collectOverflow() {
+        List<CachedGame> candidates = new ArrayList<>();
+
+        lock.lock();
+        try {
+            Iterator<CachedGame> iterator = games.values().iterator();
+
+            for (int excess = games.size() - maxSize; excess > 0 && iterator.hasNext(); excess--) {
+                candidates.add(iterator.next());
+            }
+            return candidates;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<CachedGame> collectAll() {
+        lock.lock();
+        try {
+            return new ArrayList<>(games.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void evict(CachedGame candidate, Predicate<CachedGame> evictable) {
+        roomLocks.execute(candidate.roomName, () -> {
+            if (!isResident(candidate, evictable)) {
+                return;
+            }
+
+            try {
+                writeThrough(candidate.chessGame);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                return;
+            }
+            remove(candidate);
+        });
+    }
+
+    private boolean isResident(CachedGame candidate, Predicate<CachedGame> evictable) {
+        lock.lock();
+        try {
+            return candidate.resident && evictable.test(candidate);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeThrough(ChessGame chessGame) {
+        EvictedState evictedState = EvictedState.of(chessGame);
+
+        gameRepository.saveOrUpdate(evictedState.gameRoom, evictedState.position,
+                evictedState.changedBoardDtoList);
+    }
+
+    private void remove(CachedGame cachedGame) {
+        lock.lock();
+        try {
+            games.remove(cachedGame.roomName);
+            cachedGame.resident = false;
+            evictionCount.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return games.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private static class EvictedState {
+        private final GameRoomDto gameRoom;
+        private final Position position;
+        private final List<BoardDto> changedBoardDtoList;
+
+        private EvictedState(GameRoomDto gameRoom, Position position, List<BoardDto> changedBoardDtoList) {
+            this.gameRoom = gameRoom;
+            this.position = position;
+            this.changedBoardDtoList = changedBoardDtoList;
+        }
+
+        private static EvictedState of(ChessGame chessGame) {
+            Board board = chessGame.getChessboard();
+            GameRoomDto gameRoom = new GameRoomDto(chessGame.getRoomName(), chessGame.isWhiteTurn());
+            EvictedState evictedState = new EvictedState(gameRoom, chessGame.getPosition(),
+                    BoardRenderer.render(board, board.getDirtySquares()));
+
+            board.clearDirtySquares();
+            return evictedState;
+        }
+    }
+
+    private static class CachedGame {
+        private final RoomName roomName;
+        private final ChessGame chessGame;
+        private long lastAccessNanos;
+        private boolean resident;
+
+        private CachedGame(RoomName roomName, ChessGame chessGame, long lastAccessNanos) {
+            this.roomName = roomName;
+            this.chessGame = chessGame;
+            this.lastAccessNanos = lastAccessNanos;
+            this.resident = true;
+        }
+
+        private boolean isExpired(long now, long expireAfterAccessNanos) {
+            return now - lastAccessNanos >= expireAfterAccessNanos;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.Position;
+import chess.domain.RoomName;
+import chess.domain.board.Board;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GameRepository extends AutoCloseable {
+    void save(List<BoardDto> boardDtoList, GameRoomDto gameRoomDto);
+
+    void update(List<BoardDto> boardDtoList, GameRoomDto gameRoom);
+
+    boolean updateSquares(List<BoardDto> changedBoardDtoList, GameRoomDto gameRoom);
+
+    Optional<GameRoomDto> findGameRoomByName(String roomName);
+
+    List<BoardDto> findBoardByRoomName(String roomName);
+
+    void deleteAllByName(String roomName);
+
+    default Optional<GameRoomDto> loadGameRoom(String roomName, Board board) {
+        Optional<GameRoomDto> gameRoom = findGameRoomByName(roomName);
+
+        gameRoom.ifPresent(room -> BoardRenderer.putPieces(board, findBoardByRoomName(roomName)));
+        return gameRoom;
+    }
+
+    default ChessGame loadGame(RoomName roomName) {
+        ChessGame chessGame = new ChessGame(roomName);
+        Board board = chessGame.getChessboard();
+
+        loadGameRoom(roomName.getRoomName(), board)
+                .ifPresent(gameRoom -> {
+                    if (!gameRoom.isWhiteTurn()) {
+                        chessGame.passTurn();
+                    }
+                    board.clearDirtySquares();
+                    chessGame.publishPosition();
+                });
+
+        return chessGame;
+    }
+
+    default void saveOrUpdate(GameRoomDto gameRoom, Position position, List<BoardDto> changedBoardDtoList) {
+        if (findGameRoomByName(gameRoom.getRoomName()).isEmpty()) {
+            save(BoardRenderer.render(position), gameRoom);
+            return;
+        }
+
+        if (!updateSquares(changedBoardDtoList, gameRoom)) {
+            update(BoardRenderer.render(position), gameRoom);
+        }
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,115 @@
+package chess.dao;
+
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+public class InMemoryGameRepository implements GameRepository {
+    private final ConcurrentMap<String, StoredRoom> rooms = new ConcurrentHashMap<>();
+
+    @Override
+    public void save(List<BoardDto> boardDtoList, GameRoomDto gameRoomDto) {
+        rooms.put(gameRoomDto.getRoomName(), StoredRoom.of(gameRoomDto.isWhiteTurn(), boardDtoList));
+    }
+
+    @Override
+    public void update(List<BoardDto> boardDtoList, GameRoomDto gameRoom) {
+        rooms.computeIfPresent(gameRoom.getRoomName(),
+                (roomName, storedRoom) -> StoredRoom.of(gameRoom.isWhiteTurn(), boardDtoList));
+    }
+
+    @Override
+    public boolean updateSquares(List<BoardDto> changedBoardDtoList, GameRoomDto gameRoom) {
+        boolean[] updated = new boolean[1];
+
+        rooms.computeIfPresent(gameRoom.getRoomName(), (roomName, storedRoom) -> {
+            if (!storedRoom.containsAll(changedBoardDtoList)) {
+                return storedRoom;
+            }
+            updated[0] = true;
+            return storedRoom.update(gameRoom.isWhiteTurn(), changedBoardDtoList);
+        });
+
+        return updated[0];
+    }
+
+    @Override
+    public Optional<GameRoomDto> findGameRoomByName(String roomName) {
+        return Optional.ofNullable(rooms.get(roomName))
+                .map(storedRoom -> new GameRoomDto(roomName, storedRoom.isWhiteTurn));
+    }
+
+    @Override
+    public List<BoardDto> findBoardByRoomName(String roomName) {
+        StoredRoom storedRoom = rooms.get(roomName);
+
+        if (storedRoom == null) {
+            return Collections.emptyList();
+        }
+
+        return storedRoom.toBoardDtoList();
+    }
+
+    @Override
+    public void deleteAllByName(String roomName) {
+        rooms.remove(roomName);
+    }
+
+    public int size() {
+        return rooms.size();
+    }
+
+    private static class StoredRoom {
+        private final boolean isWhiteTurn;
+        private final Map<String, String> pieces;
+
+        private StoredRoom(boolean isWhiteTurn, Map<String, String> pieces) {
+            this.isWhiteTurn = isWhiteTurn;
+            this.pieces = pieces;
+        }
+
+        private static StoredRoom of(boolean isWhiteTurn, List<BoardDto> boardDtoList) {
+            return new StoredRoom(isWhiteTurn, putAll(new LinkedHashMap<>(), boardDtoList));
+        }
+
+        private static Map<String, String> putAll(Map<String, String> pieces, List<BoardDto> boardDtoList) {
+            for (BoardDto boardDto : boardDtoList) {
+                pieces.put(boardDto.getSource(), boardDto.getPiece());
+            }
+
+            return pieces;
+        }
+
+        private boolean containsAll(List<BoardDto> boardDtoList) {
+            for (BoardDto boardDto : boardDtoList) {
+                if (!pieces.containsKey(boardDto.getSource())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private StoredRoom update(boolean isWhiteTurn, List<BoardDto> changedBoardDtoList) {
+            return new StoredRoom(isWhiteTurn, putAll(new LinkedHashMap<>(pieces), changedBoardDtoList));
+        }
+
+        private List<BoardDto> toBoardDtoList() {
+            List<BoardDto> boardDtoList = new ArrayList<>();
+
+            for (Map.Entry<String, String> entry : pieces.entrySet()) {
+                boardDtoList.add(new BoardDto(entry.getKey(), entry.getValue()));
+            }
+
+            return boardDtoList;
+        }
+    }
+}
@@ -1,44 +1,90 @@
 package chess.dao;
 
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
 import chess.dto.BoardDto;
 import chess.dto.GameRoomDto;
+import chess.util.BoardCodec;
+import chess.util.BoardRenderer;
+import chess.util.PieceRenderer;
+import chess.util.SquareRenderer;
 
+import javax.sql.DataSource;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-public class JdbcDao {
-    private static final String SERVER = "localhost:13306";
-    private static final String DATABASE = "chess";
-    private static final String OPTION = "?useSSL=false&allowPublicKeyRetrieval=true&serverTimezone=UTC";
-    private static final String USERNAME = "root";
-    private static final String PASSWORD = "root";
+public class JdbcDao implements GameRepository {
+    private static final int DEFAULT_BATCH_SIZE = 64;
 
+    private final DataSource dataSource;
+    private final int batchSize;
+    private final BoardStorage boardStorage;
+
+    public JdbcDao(DataSource dataSource) {
+        this(dataSource, DEFAULT_BATCH_SIZE);
+    }
+
+    public JdbcDao(DataSource dataSource, int batchSize) {
+        this(dataSource, batchSize, BoardStorage.ROWS);
+    }
+
+    public JdbcDao(DataSource dataSource, BoardStorage boardStorage) {
+        this(dataSource, DEFAULT_BATCH_SIZE, boardStorage);
+    }
+
+    public JdbcDao(DataSource dataSource, int batchSize, BoardStorage boardStorage) {
+        validateBatchSize(batchSize);
+
+        this.dataSource = dataSource;
+        this.batchSize = batchSize;
+        this.boardStorage = boardStorage;
+    }
+
+    private void validateBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("배치 크기는 1 이상이어야 합니다.");
+        }
+    }
+
+    @Override
     public void save(List<BoardDto> boardDtoList, GameRoomDto gameRoomDto) {
         Connection connection = getConnection();
-        int roomId = saveGameRoom(connection, gameRoomDto);
-        saveBoard(connection, boardDtoList, roomId);
-        closeConnection(connection);
+
+        try {
+            beginTransaction(connection);
+            if (boardStorage == BoardStorage.BLOB) {
+                saveGameRoom(connection, gameRoomDto, encode(boardDtoList, new BitboardChessboard(), gameRoomDto));
+            } else {
+                int roomId = saveGameRoom(connection, gameRoomDto, null);
+                saveBoard(connection, boardDtoList, roomId);
+            }
+            commit(connection);
+        } catch (RuntimeException e) {
+            rollback(connection);
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
     }
 
     private Connection getConnection() {
         try {
-            return DriverManager.getConnection("jdbc:mysql://" + SERVER + "/" + DATABASE + OPTION, USERNAME, PASSWORD);
+            return dataSource.getConnection();
         } catch (SQLException e) {
-            System.err.println("DB 연결 오류:" + e.getMessage());
-            return null;
+            throw new RuntimeException("DB 연결 오류:" + e.getMessage(), e);
         }
     }
 
-    private int saveGameRoom(Connection connection, GameRoomDto gameRoom) {
-        String query = "INSERT INTO room VALUES(?, ?, ?)";
+    private int saveGameRoom(Connection connection, GameRoomDto gameRoom, byte[] boardState) {
+        String query = "INSERT INTO room (room_name, is_white_turn, board_state) VALUES(?, ?, ?)";
 
         try (PreparedStatement prepareStatement = connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
 
-            prepareStatement.setString(1, null); // auto_increment
-            prepareStatement.setString(2, gameRoom.getRoomName());
-            prepareStatement.setBoolean(3, gameRoom.isWhiteTurn());
+            prepareStatement.setString(1, gameRoom.getRoomName());
+            prepareStatement.setBoolean(2, gameRoom.isWhiteTurn());
+            prepareStatement.setBytes(3, boardState);
 
             prepareStatement.executeUpdate();
 
@@ -52,19 +98,65 @@ public class JdbcDao {
     private void saveBoard(Connection connection, List<BoardDto> boardDtoList, int roomId) {
         String query = "INSERT INTO board VALUES(?, ?, ?, ?)";
         try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
-            for (BoardDto boardDto : boardDtoList) {
+            for (int i = 0, end = boardDtoList.size(); i < end; i++) {
+                BoardDto boardDto = boardDtoList.get(i);
                 prepareStatement.setString(1, null); // auto_increment
                 prepareStatement.setString(2, boardDto.getSource());
                 prepareStatement.setString(3, boardDto.getPiece());
                 prepareStatement.setInt(4, roomId);
-                prepareStatement.executeUpdate();
+                addBatch(prepareStatement, i + 1);
             }
+            executeRemainingBatch(prepareStatement, boardDtoList.size());
         } catch (SQLException e) {
             e.printStackTrace();
             throw new RuntimeException();
         }
     }
 
+    private int[] addBatch(PreparedStatement prepareStatement, int batchedCount) throws SQLException {
+        prepareStatement.addBatch();
+
+        if (batchedCount % batchSize == 0) {
+            return prepareStatement.executeBatch();
+        }
+
+        return new int[0];
+    }
+
+    private int[] executeRemainingBatch(PreparedStatement prepareStatement, int batchedCount) throws SQLException {
+        if (batchedCount % batchSize != 0) {
+            return prepareStatement.executeBatch();
+        }
+
+        return new int[0];
+    }
+
+    private void beginTransaction(Connection connection) {
+        try {
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private void commit(Connection connection) {
+        try {
+            connection.commit();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
     private void closeConnection(Connection connection) {
         try {
             connection.close();
@@ -103,17 +195,101 @@ public class JdbcDao {
         }
     }
 
+    @Override
     public void update(List<BoardDto> boardDtoList, GameRoomDto gameRoom) {
         Connection connection = getConnection();
-        int roomId = getRoomId(connection, gameRoom.getRoomName());
 
-        updateGameRoom(connection, gameRoom);
-        updateBoard(connection, boardDtoList, roomId);
-        closeConnection(connection);
+        try {
+            beginTransaction(connection);
+            StoredRoom room = findStoredRoom(connection, gameRoom.getRoomName());
+            updateGameRoom(connection, gameRoom);
+            if (room.hasBoardState()) {
+                updateBoardState(connection, room.roomId, encode(boardDtoList, new BitboardChessboard(), gameRoom));
+            } else {
+                deleteBoard(connection, room.roomId);
+                saveBoard(connection, boardDtoList, room.roomId);
+            }
+            commit(connection);
+        } catch (RuntimeException e) {
+            rollback(connection);
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    @Override
+    public boolean updateSquares(List<BoardDto> changedBoardDtoList, GameRoomDto gameRoom) {
+        Connection connection = getConnection();
+
+        try {
+            beginTransaction(connection);
+            StoredRoom room = findStoredRoom(connection, gameRoom.getRoomName());
+            updateGameRoom(connection, gameRoom);
+            if (room.hasBoardState()) {
+                updateBoardState(connection, room.roomId,
+                        encode(changedBoardDtoList, decode(room.boardState), gameRoom));
+                commit(connection);
+                return true;
+            }
+            if (!updateBoard(connection, changedBoardDtoList, room.roomId)) {
+                rollback(connection);
+                return false;
+            }
+            commit(connection);
+            return true;
+        } catch (RuntimeException e) {
+            rollback(connection);
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    private StoredRoom findStoredRoom(Connection connection, String roomName) {
+        String query = "SELECT room_id, board_state FROM room WHERE room_name = ? FOR UPDATE";
+
+        try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setString(1, roomName);
+            ResultSet resultSet = prepareStatement.executeQuery();
+
+            if (resultSet.next()) {
+                return new StoredRoom(resultSet.getInt("room_id"), resultSet.getBytes("board_state"));
+            }
+
+            return new StoredRoom(-1, null);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private byte[] encode(List<BoardDto> boardDtoList, Board board, GameRoomDto gameRoom) {
+        BoardRenderer.putPieces(board, boardDtoList);
+        return BoardCodec.encode(board, gameRoom.isWhiteTurn());
+    }
+
+    private Board decode(byte[] boardState) {
+        Board board = new BitboardChessboard();
+
+        BoardCodec.decode(boardState, board);
+        return board;
+    }
+
+    private void deleteBoard(Connection connection, int roomId) {
+        String query = "DELETE FROM board WHERE room_id = ?";
+
+        try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setInt(1, roomId);
+            prepareStatement.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
     }
 
     private void updateGameRoom(Connection connection, GameRoomDto gameRoom) {
-        String query = "UPDATE room SET is_white_turn = ? WHERE room_name = ?";
+        String query = "UPDATE room SET is_white_turn = ?, updated_at = CURRENT_TIMESTAMP WHERE room_name = ?";
 
         try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
             prepareStatement.setBoolean(1, gameRoom.isWhiteTurn());
@@ -127,22 +303,36 @@ public class JdbcDao {
         }
     }
 
-    private void updateBoard(Connection connection, List<BoardDto> boardDtoList, int roomId) {
+    private boolean updateBoard(Connection connection, List<BoardDto> boardDtoList, int roomId) {
         String query = "UPDATE board SET piece = ? WHERE source = ? AND room_id = ?";
 
         try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
-            for (BoardDto boardDto : boardDtoList) {
+            boolean allUpdated = true;
+            for (int i = 0, end = boardDtoList.size(); i < end; i++) {
+                BoardDto boardDto = boardDtoList.get(i);
                 prepareStatement.setString(1, boardDto.getPiece());
                 prepareStatement.setString(2, boardDto.getSource());
                 prepareStatement.setInt(3, roomId);
-                prepareStatement.executeUpdate();
+                allUpdated = isAllUpdated(addBatch(prepareStatement, i + 1)) && allUpdated;
             }
+            return isAllUpdated(executeRemainingBatch(prepareStatement, boardDtoList.size())) && allUpdated;
         } catch (SQLException e) {
             e.printStackTrace();
             throw new RuntimeException();
         }
     }
 
+    private boolean isAllUpdated(int[] updateCounts) {
+        for (int updateCount : updateCounts) {
+            if (updateCount == 0 || updateCount == Statement.EXECUTE_FAILED) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
     public Optional<GameRoomDto> findGameRoomByName(String roomName) {
         String query = "SELECT * FROM room WHERE room_name = ?";
 
@@ -165,9 +355,10 @@ public class JdbcDao {
         return Optional.empty();
     }
 
+    @Override
     public List<BoardDto> findBoardByRoomName(String roomName) {
-        String query = "SELECT source, piece FROM board INNER JOIN room ON board.room_id = room.room_id "
-                + "WHERE room_name = ? ";
+        String query = "SELECT board_state, source, piece FROM room LEFT JOIN board ON board.room_id = room.room_id "
+                + "WHERE room_name = ?";
         List<BoardDto> result = new ArrayList<>();
 
         try (Connection connection = getConnection();
@@ -176,6 +367,13 @@ public class JdbcDao {
             ResultSet resultSet = prepareStatement.executeQuery();
 
             while (resultSet.next()) {
+                byte[] boardState = resultSet.getBytes("board_state");
+                if (boardState != null) {
+                    return BoardRenderer.render(decode(boardState));
+                }
+                if (resultSet.getString("source") == null) {
+                    continue;
+                }
                 result.add(new BoardDto(
                         resultSet.getString("source"),
                         resultSet.getString("piece")
@@ -189,6 +387,130 @@ public class JdbcDao {
         return result;
     }
 
+    @Override
+    public Optional<GameRoomDto> loadGameRoom(String roomName, Board board) {
+        String query = "SELECT is_white_turn, board_state, source, piece FROM room "
+                + "LEFT JOIN board ON board.room_id = room.room_id WHERE room_name = ?";
+
+        try (Connection connection = getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setString(1, roomName);
+            ResultSet resultSet = prepareStatement.executeQuery();
+
+            if (!resultSet.next()) {
+                return Optional.empty();
+            }
+
+            GameRoomDto gameRoom = new GameRoomDto(roomName, resultSet.getBoolean("is_white_turn"));
+            byte[] boardState = resultSet.getBytes("board_state");
+            if (boardState != null) {
+                BoardCodec.decode(boardState, board);
+                return Optional.of(gameRoom);
+            }
+            do {
+                putPiece(board, resultSet);
+            } while (resultSet.next());
+            return Optional.of(gameRoom);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private void putPiece(Board board, ResultSet resultSet) throws SQLException {
+        String source = resultSet.getString("source");
+
+        if (source != null) {
+            board.putPiece(SquareRenderer.render(source), PieceRenderer.render(resultSet.getString("piece")));
+        }
+    }
+
+    public void saveBoardState(GameRoomDto gameRoom, byte[] boardState) {
+        String query = "INSERT INTO room (room_name, is_white_turn, board_state) VALUES(?, ?, ?) "
+                + "ON DUPLICATE KEY UPDATE is_white_turn = VALUES(is_white_turn), board_state = VALUES(board_state)";
+
+        try (Connection connection = getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setString(1, gameRoom.getRoomName());
+            prepareStatement.setBoolean(2, gameRoom.isWhiteTurn());
+            prepareStatement.setBytes(3, boardState);
+            prepareStatement.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    public Optional<byte[]> findBoardStateByRoomName(String roomName) {
+        String query = "SELECT board_state FROM room WHERE room_name = ?";
+
+        try (Connection connection = getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setString(1, roomName);
+            ResultSet resultSet = prepareStatement.executeQuery();
+
+            if (resultSet.next()) {
+                return Optional.ofNullable(resultSet.getBytes("board_state"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+
+        return Optional.empty();
+    }
+
+    public List<String> findRoomNamesWithoutBoardState() {
+        String query = "SELECT DISTINCT room_name FROM room INNER JOIN board ON board.room_id = room.room_id "
+                + "WHERE board_state IS NULL";
+        List<String> result = new ArrayList<>();
+
+        try (Connection connection = getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            ResultSet resultSet = prepareStatement.executeQuery();
+
+            while (resultSet.next()) {
+                result.add(resultSet.getString("room_name"));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+
+        return result;
+    }
+
+    public void migrateBoardState(String roomName, byte[] boardState) {
+        Connection connection = getConnection();
+
+        try {
+            beginTransaction(connection);
+            int roomId = getRoomId(connection, roomName);
+            updateBoardState(connection, roomId, boardState);
+            deleteBoard(connection, roomId);
+            commit(connection);
+        } catch (RuntimeException e) {
+            rollback(connection);
+            throw e;
+        } finally {
+            closeConnection(connection);
+        }
+    }
+
+    private void updateBoardState(Connection connection, int roomId, byte[] boardState) {
+        String query = "UPDATE room SET board_state = ? WHERE room_id = ?";
+
+        try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setBytes(1, boardState);
+            prepareStatement.setInt(2, roomId);
+            prepareStatement.executeUpdate();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    @Override
     public void deleteAllByName(String roomName) {
         String query = "DELETE FROM room WHERE room_name = ?";
 
@@ -201,4 +523,18 @@ public class JdbcDao {
             throw new RuntimeException();
         }
     }
+
+    private static class StoredRoom {
+        private final int roomId;
+        private final byte[] boardState;
+
+        private StoredRoom(int roomId, byte[] boardState) {
+            this.roomId = roomId;
+            this.boardState = boardState;
+        }
+
+        private boolean hasBoardState() {
+            return boardState != null;
+        }
+    }
 }
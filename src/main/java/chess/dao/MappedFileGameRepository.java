@@ -0,0 +1,310 @@
+package chess.dao;
+
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardCodec;
+import chess.util.BoardRenderer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+
+public class MappedFileGameRepository implements GameRepository {
+    private static final int FILE_MAGIC = 0x43485246;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int HEADER_SIZE = 16;
+    private static final int MAX_NAME_BYTES = 40;
+    private static final int STATUS_OFFSET = 0;
+    private static final int NAME_LENGTH_OFFSET = 1;
+    private static final int NAME_OFFSET = 2;
+    private static final int BOARD_STATE_OFFSET = NAME_OFFSET + MAX_NAME_BYTES;
+    private static final int RECORD_SIZE = 80;
+    private static final byte FREE = 0;
+    private static final byte USED = 1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final ConcurrentMap<String, Integer> slots;
+    private final Queue<Integer> freeSlots;
+
+    public MappedFileGameRepository(Path path, int capacity) {
+        validateCapacity(capacity);
+
+        this.channel = open(path);
+        this.buffer = map(channel, capacity);
+        this.slots = new ConcurrentHashMap<>();
+        this.freeSlots = new ConcurrentLinkedQueue<>();
+        loadSlots(capacity);
+    }
+
+    private void validateCapacity(int capacity) {
+        if (capacity < 1 || capacity > (Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE) {
+            throw new IllegalArgumentException("저장할 수 있는 방의 수가 올바르지 않습니다: " + capacity);
+        }
+    }
+
+    private static FileChannel open(Path path) {
+        try {
+            return FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("게임 저장 파일을 열 수 없습니다.", e);
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, int capacity) {
+        try {
+            boolean created = channel.size() == 0;
+            if (!created) {
+                validateHeader(channel, capacity);
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    HEADER_SIZE + (long) capacity * RECORD_SIZE);
+            if (created) {
+                buffer.putInt(MAGIC_OFFSET, FILE_MAGIC);
+                buffer.putInt(CAPACITY_OFFSET, capacity);
+            }
+            return buffer;
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("게임 저장 파일을 열 수 없습니다.", e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    private static void validateHeader(FileChannel channel, int capacity) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+
+        if (channel.size() < HEADER_SIZE) {
+            throw new IllegalStateException("게임 저장 파일 형식이 올바르지 않습니다.");
+        }
+        while (header.hasRemaining()) {
+            channel.read(header, header.position());
+        }
+        if (header.getInt(MAGIC_OFFSET) != FILE_MAGIC) {
+            throw new IllegalStateException("게임 저장 파일 형식이 올바르지 않습니다.");
+        }
+
+        int storedCapacity = header.getInt(CAPACITY_OFFSET);
+        if (storedCapacity != capacity) {
+            throw new IllegalStateException("게임 저장 파일의 용량(" + storedCapacity + ")과 설정한 용량("
+                    + capacity + ")이 다릅니다.");
+        }
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void loadSlots(int capacity) {
+        for (int slot = 0; slot < capacity; slot++) {
+            if (buffer.get(offsetOf(slot) + STATUS_OFFSET) == USED) {
+                slots.put(readRoomName(slot), slot);
+                continue;
+            }
+            freeSlots.add(slot);
+        }
+    }
+
+    @Override
+    public void save(List<BoardDto> boardDtoList, GameRoomDto gameRoomDto) {
+        byte[] roomName = encodeRoomName(gameRoomDto.getRoomName());
+        byte[] boardState = encode(boardDtoList, gameRoomDto.isWhiteTurn());
+
+        slots.compute(gameRoomDto.getRoomName(), (name, slot) -> {
+            int target = allocateIfAbsent(slot);
+
+            writeRecord(target, roomName, boardState);
+            return target;
+        });
+    }
+
+    private int allocateIfAbsent(Integer slot) {
+        if (slot != null) {
+            return slot;
+        }
+
+        Integer freeSlot = freeSlots.poll();
+        if (freeSlot == null) {
+            throw new IllegalStateException("게임 저장 파일의 공간이 부족합니다.");
+        }
+
+        return freeSlot;
+    }
+
+    @Override
+    public void update(List<BoardDto> boardDtoList, GameRoomDto gameRoom) {
+        byte[] boardState = encode(boardDtoList, gameRoom.isWhiteTurn());
+
+        slots.computeIfPresent(gameRoom.getRoomName(), (name, slot) -> {
+            writeBoardState(slot, boardState);
+            return slot;
+        });
+    }
+
+    @Override
+    public boolean updateSquares(List<BoardDto> changedBoardDtoList, GameRoomDto gameRoom) {
+        boolean[] updated = new boolean[1];
+
+        slots.computeIfPresent(gameRoom.getRoomName(), (name, slot) -> {
+            Board board = decode(readBoardState(slot));
+
+            BoardRenderer.putPieces(board, changedBoardDtoList);
+            writeBoardState(slot, BoardCodec.encode(board, gameRoom.isWhiteTurn()));
+            updated[0] = true;
+            return slot;
+        });
+
+        return updated[0];
+    }
+
+    @Override
+    public Optional<GameRoomDto> findGameRoomByName(String roomName) {
+        return findBoardState(roomName)
+                .map(boardState -> new GameRoomDto(roomName, BoardCodec.isWhiteTurn(boardState)));
+    }
+
+    @Override
+    public List<BoardDto> findBoardByRoomName(String roomName) {
+        return findBoardState(roomName)
+                .map(boardState -> BoardRenderer.render(decode(boardState)))
+                .orElse(Collections.emptyList());
+    }
+
+    @Override
+    public Optional<GameRoomDto> loadGameRoom(String roomName, Board board) {
+        return findBoardState(roomName)
+                .map(boardState -> {
+                    BoardCodec.decode(boardState, board);
+                    return new GameRoomDto(roomName, BoardCodec.isWhiteTurn(boardState));
+                });
+    }
+
+    private Optional<byte[]> findBoardState(String roomName) {
+        byte[][] boardState = new byte[1][];
+
+        slots.computeIfPresent(roomName, (name, slot) -> {
+            boardState[0] = readBoardState(slot);
+            return slot;
+        });
+
+        return Optional.ofNullable(boardState[0]);
+    }
+
+    @Override
+    public void deleteAllByName(String roomName) {
+        slots.computeIfPresent(roomName, (name, slot) -> {
+            buffer.put(offsetOf(slot) + STATUS_OFFSET, FREE);
+            freeSlots.add(slot);
+            return null;
+        });
+    }
+
+    public int size() {
+        return slots.size();
+    }
+
+    public void flush() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() {
+        flush();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("게임 저장 파일을 닫을 수 없습니다.", e);
+        }
+    }
+
+    private byte[] encode(List<BoardDto> boardDtoList, boolean isWhiteTurn) {
+        Board board = new BitboardChessboard();
+
+        BoardRenderer.putPieces(board, boardDtoList);
+        return BoardCodec.encode(board, isWhiteTurn);
+    }
+
+    private Board decode(byte[] boardState) {
+        Board board = new BitboardChessboard();
+
+        BoardCodec.decode(boardState, board);
+        return board;
+    }
+
+    private byte[] encodeRoomName(String roomName) {
+        byte[] encoded = roomName.getBytes(StandardCharsets.UTF_8);
+
+        if (encoded.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("방 이름이 저장 가능한 길이를 초과했습니다.");
+        }
+
+        return encoded;
+    }
+
+    private void writeRecord(int slot, byte[] roomName, byte[] boardState) {
+        int offset = offsetOf(slot);
+
+        buffer.put(offset + NAME_LENGTH_OFFSET, (byte) roomName.length);
+        write(offset + NAME_OFFSET, roomName);
+        write(offset + BOARD_STATE_OFFSET, boardState);
+        buffer.put(offset + STATUS_OFFSET, USED);
+    }
+
+    private void writeBoardState(int slot, byte[] boardState) {
+        write(offsetOf(slot) + BOARD_STATE_OFFSET, boardState);
+    }
+
+    private String readRoomName(int slot) {
+        int offset = offsetOf(slot);
+        int length = buffer.get(offset + NAME_LENGTH_OFFSET);
+
+        return new String(read(offset + NAME_OFFSET, length), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBoardState(int slot) {
+        return read(offsetOf(slot) + BOARD_STATE_OFFSET, BoardCodec.ENCODED_LENGTH);
+    }
+
+    private void write(int offset, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            buffer.put(offset + i, bytes[i]);
+        }
+    }
+
+    private byte[] read(int offset, int length) {
+        byte[] bytes = new byte[length];
+
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(offset + i);
+        }
+
+        return bytes;
+    }
+
+    private static int offsetOf(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+}
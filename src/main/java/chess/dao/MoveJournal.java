@@ -0,0 +1,137 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.domain.move.Move;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+import chess.dto.MoveLogDto;
+import chess.dto.SnapshotDto;
+import chess.util.BoardCodec;
+import chess.util.PieceRenderer;
+import chess.util.SquareRenderer;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MoveJournal implements AutoCloseable {
+    private final MoveLogDao moveLogDao;
+    private final MoveLogWriter moveLogWriter;
+    private final int snapshotInterval;
+    private final Map<String, Integer> plies;
+
+    public MoveJournal(MoveLogDao moveLogDao, int snapshotInterval) {
+        validateSnapshotInterval(snapshotInterval);
+
+        this.moveLogDao = moveLogDao;
+        this.moveLogWriter = new MoveLogWriter(moveLogDao);
+        this.snapshotInterval = snapshotInterval;
+        this.plies = new ConcurrentHashMap<>();
+    }
+
+    private void validateSnapshotInterval(int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("스냅샷 간격은 1 이상이어야 합니다.");
+        }
+    }
+
+    public Optional<ChessGame> restore(RoomName roomName) {
+        String name = roomName.getRoomName();
+        Optional<SnapshotDto> snapshot = moveLogDao.findLatestSnapshot(name);
+
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ChessGame chessGame = createGame(roomName, snapshot.get().getBoardState());
+        int ply = snapshot.get().getPly();
+        for (MoveLogDto moveLog : moveLogDao.findMovesAfter(name, ply)) {
+            replay(chessGame, moveLog);
+            ply = moveLog.getPly();
+        }
+        plies.put(name, ply);
+
+        return Optional.of(chessGame);
+    }
+
+    private ChessGame createGame(RoomName roomName, byte[] boardState) {
+        Board board = new BitboardChessboard();
+        BoardCodec.decode(boardState, board);
+        ChessGame chessGame = new ChessGame(roomName, board);
+
+        if (!BoardCodec.isWhiteTurn(boardState)) {
+            chessGame.passTurn();
+        }
+
+        return chessGame;
+    }
+
+    private void replay(ChessGame chessGame, MoveLogDto moveLog) {
+        PieceType promotion = PieceType.EMPTY;
+
+        if (moveLog.getPromotion() != null) {
+            promotion = PieceRenderer.render(moveLog.getPromotion()).getPieceType();
+        }
+        chessGame.move(SquareRenderer.render(moveLog.getSource()), SquareRenderer.render(moveLog.getTarget()),
+                promotion);
+    }
+
+    public void start(ChessGame chessGame) {
+        String roomName = chessGame.getRoomName();
+
+        if (plies.putIfAbsent(roomName, 0) != null) {
+            return;
+        }
+
+        moveLogWriter.delete(roomName);
+        moveLogWriter.append(createSnapshot(chessGame, 0));
+    }
+
+    public void record(ChessGame chessGame, int move) {
+        String roomName = chessGame.getRoomName();
+        Integer ply = plies.computeIfPresent(roomName, (name, previousPly) -> previousPly + 1);
+
+        if (ply == null) {
+            throw new IllegalStateException("기보 기록을 시작하지 않은 방입니다.");
+        }
+
+        moveLogWriter.append(createMoveLog(roomName, ply, move));
+        if (ply % snapshotInterval == 0) {
+            moveLogWriter.append(createSnapshot(chessGame, ply));
+        }
+    }
+
+    private MoveLogDto createMoveLog(String roomName, int ply, int move) {
+        String promotion = null;
+
+        if (Move.isPromotion(move)) {
+            promotion = PieceRenderer.render(Move.getPromotion(move).createPiece(Camp.WHITE));
+        }
+
+        return new MoveLogDto(roomName, ply, SquareRenderer.render(Move.getSourceSquare(move)),
+                SquareRenderer.render(Move.getTargetSquare(move)), promotion);
+    }
+
+    private SnapshotDto createSnapshot(ChessGame chessGame, int ply) {
+        byte[] boardState = BoardCodec.encode(chessGame.getPosition());
+
+        return new SnapshotDto(chessGame.getRoomName(), ply, boardState);
+    }
+
+    public void clear(String roomName) {
+        plies.remove(roomName);
+        moveLogWriter.delete(roomName);
+    }
+
+    public void flush() {
+        moveLogWriter.flush();
+    }
+
+    @Override
+    public void close() {
+        moveLogWriter.close();
+    }
+}
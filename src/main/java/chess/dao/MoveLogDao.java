@@ -0,0 +1,151 @@
+package chess.dao;
+
+import chess.dto.MoveLogDto;
+import chess.dto.SnapshotDto;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+public class MoveLogDao {
+    private final DataSource dataSource;
+
+    public MoveLogDao(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    public void append(List<MoveLogDto> moveLogs, List<SnapshotDto> snapshots) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                appendMoves(connection, moveLogs);
+                appendSnapshots(connection, snapshots);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private void appendMoves(Connection connection, List<MoveLogDto> moveLogs) throws SQLException {
+        String query = "INSERT INTO move_log (room_name, ply, source, target, promotion) VALUES(?, ?, ?, ?, ?)";
+
+        if (moveLogs.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            for (MoveLogDto moveLog : moveLogs) {
+                prepareStatement.setString(1, moveLog.getRoomName());
+                prepareStatement.setInt(2, moveLog.getPly());
+                prepareStatement.setString(3, moveLog.getSource());
+                prepareStatement.setString(4, moveLog.getTarget());
+                prepareStatement.setString(5, moveLog.getPromotion());
+                prepareStatement.addBatch();
+            }
+            prepareStatement.executeBatch();
+        }
+    }
+
+    private void appendSnapshots(Connection connection, List<SnapshotDto> snapshots) throws SQLException {
+        String query = "INSERT INTO snapshot (room_name, ply, board_state) VALUES(?, ?, ?)";
+
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            for (SnapshotDto snapshot : snapshots) {
+                prepareStatement.setString(1, snapshot.getRoomName());
+                prepareStatement.setInt(2, snapshot.getPly());
+                prepareStatement.setBytes(3, snapshot.getBoardState());
+                prepareStatement.addBatch();
+            }
+            prepareStatement.executeBatch();
+        }
+    }
+
+    public Optional<SnapshotDto> findLatestSnapshot(String roomName) {
+        String query = "SELECT ply, board_state FROM snapshot WHERE room_name = ? ORDER BY ply DESC LIMIT 1";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setString(1, roomName);
+            ResultSet resultSet = prepareStatement.executeQuery();
+
+            if (resultSet.next()) {
+                return Optional.of(new SnapshotDto(
+                        roomName,
+                        resultSet.getInt("ply"),
+                        resultSet.getBytes("board_state"))
+                );
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+
+        return Optional.empty();
+    }
+
+    public List<MoveLogDto> findMovesAfter(String roomName, int ply) {
+        String query = "SELECT ply, source, target, promotion FROM move_log WHERE room_name = ? AND ply > ? "
+                + "ORDER BY ply";
+        List<MoveLogDto> result = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setString(1, roomName);
+            prepareStatement.setInt(2, ply);
+            ResultSet resultSet = prepareStatement.executeQuery();
+
+            while (resultSet.next()) {
+                result.add(new MoveLogDto(
+                        roomName,
+                        resultSet.getInt("ply"),
+                        resultSet.getString("source"),
+                        resultSet.getString("target"),
+                        resultSet.getString("promotion")
+                ));
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+
+        return result;
+    }
+
+    public void deleteAllByName(String roomName) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                deleteByRoomName(connection, "DELETE FROM move_log WHERE room_name = ?", roomName);
+                deleteByRoomName(connection, "DELETE FROM snapshot WHERE room_name = ?", roomName);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private void deleteByRoomName(Connection connection, String query, String roomName) throws SQLException {
+        try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setString(1, roomName);
+            prepareStatement.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package chess.dao;
+
+import chess.dto.MoveLogDto;
+import chess.dto.SnapshotDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MoveLogWriter implements AutoCloseable {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final MoveLogDao moveLogDao;
+    private final BlockingDeque<PendingWrite> pendingWrites;
+    private final AtomicBoolean drainScheduled;
+    private final AtomicLong failureCount;
+    private final ExecutorService executor;
+
+    public MoveLogWriter(MoveLogDao moveLogDao) {
+        this.moveLogDao = moveLogDao;
+        this.pendingWrites = new LinkedBlockingDeque<>();
+        this.drainScheduled = new AtomicBoolean();
+        this.failureCount = new AtomicLong();
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "move-log-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void append(MoveLogDto moveLog) {
+        enqueue(new PendingWrite(moveLog, null, null));
+    }
+
+    public void append(SnapshotDto snapshot) {
+        enqueue(new PendingWrite(null, snapshot, null));
+    }
+
+    public void delete(String roomName) {
+        enqueue(new PendingWrite(null, null, roomName));
+    }
+
+    private void enqueue(PendingWrite pendingWrite) {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("이미 종료된 기보 기록기입니다.");
+        }
+
+        pendingWrites.add(pendingWrite);
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private boolean drain() {
+        drainScheduled.set(false);
+
+        List<PendingWrite> batch = new ArrayList<>();
+        pendingWrites.drainTo(batch);
+        return write(batch);
+    }
+
+    private boolean write(List<PendingWrite> batch) {
+        List<MoveLogDto> moveLogs = new ArrayList<>();
+        List<SnapshotDto> snapshots = new ArrayList<>();
+        int writtenCount = 0;
+
+        try {
+            for (int i = 0, end = batch.size(); i < end; i++) {
+                PendingWrite pendingWrite = batch.get(i);
+                if (pendingWrite.deletedRoomName != null) {
+                    appendAll(moveLogs, snapshots);
+                    writtenCount = i;
+                    moveLogDao.deleteAllByName(pendingWrite.deletedRoomName);
+                    writtenCount = i + 1;
+                    continue;
+                }
+                addIfPresent(moveLogs, pendingWrite.moveLog);
+                addIfPresent(snapshots, pendingWrite.snapshot);
+            }
+            appendAll(moveLogs, snapshots);
+            return true;
+        } catch (RuntimeException e) {
+            requeue(batch.subList(writtenCount, batch.size()));
+            failureCount.incrementAndGet();
+            System.err.println("기보 기록 오류: " + (batch.size() - writtenCount) + "건을 다시 기록합니다.");
+            return false;
+        }
+    }
+
+    private void requeue(List<PendingWrite> unwritten) {
+        for (int i = unwritten.size() - 1; i >= 0; i--) {
+            pendingWrites.addFirst(unwritten.get(i));
+        }
+    }
+
+    private static <T> void addIfPresent(List<T> values, T value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    private void appendAll(List<MoveLogDto> moveLogs, List<SnapshotDto> snapshots) {
+        if (moveLogs.isEmpty() && snapshots.isEmpty()) {
+            return;
+        }
+
+        moveLogDao.append(moveLogs, snapshots);
+        moveLogs.clear();
+        snapshots.clear();
+    }
+
+    public void flush() {
+        boolean written;
+
+        try {
+            written = executor.submit(this::drain).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("기보를 기록하지 못했습니다.", e.getCause());
+        }
+
+        if (!written) {
+            throw new IllegalStateException("기보를 기록하지 못했습니다. 남은 기록: " + pendingWrites.size() + "건");
+        }
+    }
+
+    public int getPendingCount() {
+        return pendingWrites.size();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    @Override
+    public void close() {
+        if (executor.isShutdown()) {
+            return;
+        }
+
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+            awaitTermination();
+        }
+    }
+
+    private void awaitTermination() {
+        try {
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class PendingWrite {
+        private final MoveLogDto moveLog;
+        private final SnapshotDto snapshot;
+        private final String deletedRoomName;
+
+        private PendingWrite(MoveLogDto moveLog, SnapshotDto snapshot, String deletedRoomName) {
+            this.moveLog = moveLog;
+            this.snapshot = snapshot;
+            this.deletedRoomName = deletedRoomName;
+        }
+    }
+}
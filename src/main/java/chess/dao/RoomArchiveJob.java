@@ -0,0 +1,300 @@
+package chess.dao;
+
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.dto.ArchivedRoomDto;
+import chess.util.BoardCodec;
+import chess.util.PieceRenderer;
+import chess.util.SquareRenderer;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+public class RoomArchiveJob {
+    private static final int ARCHIVE_MAGIC = 0x43484152;
+    private static final byte ARCHIVE_VERSION = 1;
+    private static final byte RECORD = 1;
+    private static final byte END = 0;
+    private static final String ARCHIVE_EXTENSION = ".gz";
+    private static final DateTimeFormatter RUN_ID_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmssSSS").withZone(ZoneOffset.UTC);
+
+    private final DataSource dataSource;
+    private final int chunkSize;
+
+    public RoomArchiveJob(DataSource dataSource, int chunkSize) {
+        validateChunkSize(chunkSize);
+
+        this.dataSource = dataSource;
+        this.chunkSize = chunkSize;
+    }
+
+    private void validateChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("정리 단위는 1 이상이어야 합니다.");
+        }
+    }
+
+    public static Path resolveRunPath(Path archivePath, Instant startedAt) {
+        String fileName = archivePath.getFileName().toString();
+        String baseName = fileName;
+        if (fileName.endsWith(ARCHIVE_EXTENSION)) {
+            baseName = fileName.substring(0, fileName.length() - ARCHIVE_EXTENSION.length());
+        }
+        return archivePath.resolveSibling(baseName + "-" + RUN_ID_FORMATTER.format(startedAt) + ARCHIVE_EXTENSION);
+    }
+
+    public int run(Duration maxIdle, Path archivePath) {
+        validateNewArchive(archivePath);
+        Timestamp cutoff = findCutoff(maxIdle);
+        archive(cutoff, archivePath);
+        return purge(cutoff);
+    }
+
+    private void validateNewArchive(Path archivePath) {
+        if (Files.exists(archivePath)) {
+            throw new IllegalStateException("이미 같은 이름의 보관 파일이 있습니다: " + archivePath);
+        }
+    }
+
+    private Timestamp findCutoff(Duration maxIdle) {
+        String query = "SELECT TIMESTAMPADD(SECOND, ?, CURRENT_TIMESTAMP)";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setLong(1, -maxIdle.getSeconds());
+            ResultSet resultSet = prepareStatement.executeQuery();
+
+            resultSet.next();
+            return resultSet.getTimestamp(1);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private void archive(Timestamp cutoff, Path archivePath) {
+        Path temporaryPath = archivePath.resolveSibling(archivePath.getFileName() + ".tmp");
+
+        try {
+            writeArchive(cutoff, temporaryPath);
+            Files.move(temporaryPath, archivePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("방 보관 파일을 쓸 수 없습니다.", e);
+        }
+    }
+
+    private void writeArchive(Timestamp cutoff, Path path) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new GZIPOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(path))))) {
+            output.writeInt(ARCHIVE_MAGIC);
+            output.writeByte(ARCHIVE_VERSION);
+            streamRooms(cutoff, output);
+            output.writeByte(END);
+        }
+    }
+
+    private void streamRooms(Timestamp cutoff, DataOutputStream output) throws IOException {
+        String query = "SELECT room.room_id, room_name, is_white_turn, updated_at, board_state, source, piece FROM room "
+                + "LEFT JOIN board ON board.room_id = room.room_id WHERE updated_at < ? ORDER BY room.room_id";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            connection.setAutoCommit(false);
+            prepareStatement.setFetchSize(chunkSize);
+            prepareStatement.setTimestamp(1, cutoff);
+
+            try (ResultSet resultSet = prepareStatement.executeQuery()) {
+                writeRooms(resultSet, output);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private void writeRooms(ResultSet resultSet, DataOutputStream output) throws SQLException, IOException {
+        boolean hasRow = resultSet.next();
+
+        while (hasRow) {
+            int roomId = resultSet.getInt("room_id");
+            String roomName = resultSet.getString("room_name");
+            boolean isWhiteTurn = resultSet.getBoolean("is_white_turn");
+            Timestamp updatedAt = resultSet.getTimestamp("updated_at");
+            byte[] boardState = resultSet.getBytes("board_state");
+            Board board = new BitboardChessboard();
+
+            do {
+                putPiece(board, resultSet);
+                hasRow = resultSet.next();
+            } while (hasRow && resultSet.getInt("room_id") == roomId);
+
+            if (boardState == null) {
+                boardState = BoardCodec.encode(board, isWhiteTurn);
+            }
+            writeRoom(output, roomName, updatedAt, boardState);
+        }
+    }
+
+    private void putPiece(Board board, ResultSet resultSet) throws SQLException {
+        String source = resultSet.getString("source");
+
+        if (source != null) {
+            board.putPiece(SquareRenderer.render(source), PieceRenderer.render(resultSet.getString("piece")));
+        }
+    }
+
+    private void writeRoom(DataOutputStream output, String roomName, Timestamp updatedAt, byte[] boardState)
+            throws IOException {
+        output.writeByte(RECORD);
+        output.writeUTF(roomName);
+        output.writeLong(updatedAt.getTime());
+        output.write(boardState);
+    }
+
+    private int purge(Timestamp cutoff) {
+        int purged = 0;
+        int deleted;
+
+        do {
+            deleted = purgeChunk(cutoff);
+            purged += deleted;
+        } while (deleted == chunkSize);
+
+        return purged;
+    }
+
+    private int purgeChunk(Timestamp cutoff) {
+        Connection connection = getConnection();
+
+        try {
+            connection.setAutoCommit(false);
+            List<Integer> roomIds = new ArrayList<>();
+            List<String> roomNames = new ArrayList<>();
+
+            lockExpiredRooms(connection, cutoff, roomIds, roomNames);
+            if (!roomIds.isEmpty()) {
+                deleteIn(connection, "DELETE FROM move_log WHERE room_name IN ", roomNames);
+                deleteIn(connection, "DELETE FROM snapshot WHERE room_name IN ", roomNames);
+                deleteIn(connection, "DELETE FROM board WHERE room_id IN ", roomIds);
+                deleteIn(connection, "DELETE FROM room WHERE room_id IN ", roomIds);
+            }
+            connection.commit();
+            return roomIds.size();
+        } catch (SQLException e) {
+            rollback(connection);
+            e.printStackTrace();
+            throw new RuntimeException();
+        } finally {
+            close(connection);
+        }
+    }
+
+    private void lockExpiredRooms(Connection connection, Timestamp cutoff, List<Integer> roomIds,
+                                  List<String> roomNames) throws SQLException {
+        String query = "SELECT room_id, room_name FROM room WHERE updated_at < ? ORDER BY room_id LIMIT ? FOR UPDATE";
+
+        try (PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setTimestamp(1, cutoff);
+            prepareStatement.setInt(2, chunkSize);
+            ResultSet resultSet = prepareStatement.executeQuery();
+
+            while (resultSet.next()) {
+                roomIds.add(resultSet.getInt("room_id"));
+                roomNames.add(resultSet.getString("room_name"));
+            }
+        }
+    }
+
+    private void deleteIn(Connection connection, String query, List<?> values) throws SQLException {
+        String placeholders = "(" + String.join(", ", Collections.nCopies(values.size(), "?")) + ")";
+
+        try (PreparedStatement prepareStatement = connection.prepareStatement(query + placeholders)) {
+            for (int i = 0; i < values.size(); i++) {
+                prepareStatement.setObject(i + 1, values.get(i));
+            }
+            prepareStatement.executeUpdate();
+        }
+    }
+
+    private Connection getConnection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private void rollback(Connection connection) {
+        try {
+            connection.rollback();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void close(Connection connection) {
+        try {
+            connection.setAutoCommit(true);
+            connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public static List<ArchivedRoomDto> readArchive(Path archivePath) {
+        try (DataInputStream input = new DataInputStream(new GZIPInputStream(
+                new BufferedInputStream(Files.newInputStream(archivePath))))) {
+            validateHeader(input);
+
+            List<ArchivedRoomDto> archivedRooms = new ArrayList<>();
+            while (input.readByte() == RECORD) {
+                archivedRooms.add(readRoom(input));
+            }
+            return archivedRooms;
+        } catch (IOException e) {
+            throw new UncheckedIOException("방 보관 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static void validateHeader(DataInputStream input) throws IOException {
+        if (input.readInt() != ARCHIVE_MAGIC || input.readByte() != ARCHIVE_VERSION) {
+            throw new IllegalArgumentException("올바르지 않은 방 보관 파일입니다.");
+        }
+    }
+
+    private static ArchivedRoomDto readRoom(DataInputStream input) throws IOException {
+        String roomName = input.readUTF();
+        long updatedAt = input.readLong();
+        byte[] boardState = new byte[BoardCodec.ENCODED_LENGTH];
+
+        input.readFully(boardState);
+        return new ArchivedRoomDto(roomName, Instant.ofEpochMilli(updatedAt), boardState);
+    }
+}
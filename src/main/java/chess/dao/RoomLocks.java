@@ -0,0 +1,61 @@
+package chess.dao;
+
+import chess.domain.RoomName;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+class RoomLocks {
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    RoomLocks(int stripeCount) {
+        validateStripeCount(stripeCount);
+
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    private void validateStripeCount(int stripeCount) {
+        if (stripeCount < 1 || stripeCount > MAX_STRIPES) {
+            throw new IllegalArgumentException("잠금 개수는 1 이상 " + MAX_STRIPES + " 이하여야 합니다.");
+        }
+    }
+
+    <T> T execute(RoomName roomName, Supplier<T> action) {
+        ReentrantLock lock = getLock(roomName);
+
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void execute(RoomName roomName, Runnable action) {
+        execute(roomName, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    ReentrantLock getLock(RoomName roomName) {
+        int hash = roomName.hashCode();
+
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    int getStripeCount() {
+        return stripes.length;
+    }
+}
@@ -0,0 +1,50 @@
+package chess.dao;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class SchemaInitializer {
+    private static final String SCHEMA_PATH = "/schema.sql";
+    private static final String STATEMENT_DELIMITER = ";";
+
+    private SchemaInitializer() {
+    }
+
+    public static void initialize(DataSource dataSource) {
+        execute(dataSource, SCHEMA_PATH);
+    }
+
+    public static void execute(DataSource dataSource, String scriptPath) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String query : readScript(scriptPath).split(STATEMENT_DELIMITER)) {
+                executeIfPresent(statement, query.trim());
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+
+    private static void executeIfPresent(Statement statement, String query) throws SQLException {
+        if (!query.isEmpty()) {
+            statement.execute(query);
+        }
+    }
+
+    private static String readScript(String scriptPath) {
+        try (InputStream inputStream = SchemaInitializer.class.getResourceAsStream(scriptPath)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("스키마 파일을 찾을 수 없습니다.");
+            }
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("스키마 파일을 읽을 수 없습니다.", e);
+        }
+    }
+}
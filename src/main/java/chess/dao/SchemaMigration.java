@@ -0,0 +1,40 @@
+package chess.dao;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public class SchemaMigration {
+    private static final String ROOM_TABLE = "room";
+    private static final String UPDATED_AT_COLUMN = "updated_at";
+    private static final String ADD_UPDATED_AT_SCRIPT_PATH = "/migration/add_room_updated_at.sql";
+    private static final String BOARD_STATE_COLUMN = "board_state";
+    private static final String ADD_BOARD_STATE_SCRIPT_PATH = "/migration/add_room_board_state.sql";
+
+    private SchemaMigration() {
+    }
+
+    public static void migrate(DataSource dataSource) {
+        SchemaInitializer.initialize(dataSource);
+        addRoomColumnIfAbsent(dataSource, UPDATED_AT_COLUMN, ADD_UPDATED_AT_SCRIPT_PATH);
+        addRoomColumnIfAbsent(dataSource, BOARD_STATE_COLUMN, ADD_BOARD_STATE_SCRIPT_PATH);
+    }
+
+    private static void addRoomColumnIfAbsent(DataSource dataSource, String column, String scriptPath) {
+        if (!hasRoomColumn(dataSource, column)) {
+            SchemaInitializer.execute(dataSource, scriptPath);
+        }
+    }
+
+    private static boolean hasRoomColumn(DataSource dataSource, String column) {
+        try (Connection connection = dataSource.getConnection();
+             ResultSet columns = connection.getMetaData()
+                     .getColumns(connection.getCatalog(), null, ROOM_TABLE, column)) {
+            return columns.next();
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new RuntimeException();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package chess.dao;
+
+import chess.domain.Position;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class WriteBehindQueue implements AutoCloseable {
+    private final GameRepository gameRepository;
+    private final int capacity;
+    private final int flushSize;
+    private final long flushIntervalNanos;
+    private final ReentrantLock lock;
+    private final ReentrantLock writeLock;
+    private final Condition flushRequested;
+    private final Condition notFull;
+    private final AtomicLong coalescedCount;
+    private final AtomicLong writtenCount;
+    private final AtomicLong failedCount;
+    private final Thread flusher;
+    private Map<String, PendingWrite> pendingWrites;
+    private int inFlightCount;
+    private boolean closed;
+
+    public WriteBehindQueue(GameRepository gameRepository, int capacity, int flushSize, Duration flushInterval) {
+        validate(capacity, flushSize, flushInterval);
+
+        this.gameRepository = gameRepository;
+        this.capacity = capacity;
+        this.flushSize = flushSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.lock = new ReentrantLock();
+        this.writeLock = new ReentrantLock();
+        this.flushRequested = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.coalescedCount = new AtomicLong();
+        this.writtenCount = new AtomicLong();
+        this.failedCount = new AtomicLong();
+        this.pendingWrites = new LinkedHashMap<>();
+        this.flusher = new Thread(this::runFlusher, "write-behind-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    private void validate(int capacity, int flushSize, Duration flushInterval) {
+        if (flushSize < 1 || capacity < flushSize) {
+            throw new IllegalArgumentException("쓰기 지연 큐는 1 <= 플러시 크기 <= 용량이어야 합니다.");
+        }
+
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("플러시 간격은 0보다 커야 합니다.");
+        }
+    }
+
+    public void update(GameRoomDto gameRoom, Position position, List<BoardDto> changedBoardDtoList) {
+        enqueue(gameRoom.getRoomName(), PendingWrite.update(gameRoom, position, changedBoardDtoList));
+    }
+
+    public void delete(String roomName) {
+        enqueue(roomName, PendingWrite.delete());
+    }
+
+    private void enqueue(String roomName, PendingWrite pendingWrite) {
+        lock.lock();
+        try {
+            validateOpen();
+            PendingWrite pending = pendingWrites.get(roomName);
+
+            if (pending != null) {
+                pendingWrites.put(roomName, pending.merge(pendingWrite));
+                coalescedCount.incrementAndGet();
+                return;
+            }
+
+            awaitCapacity();
+            pendingWrites.put(roomName, pendingWrite);
+            if (pendingWrites.size() >= flushSize) {
+                flushRequested.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void validateOpen() {
+        if (closed) {
+            throw new IllegalStateException("이미 종료된 쓰기 지연 큐입니다.");
+        }
+    }
+
+    private void awaitCapacity() {
+        try {
+            while (pendingWrites.size() + inFlightCount >= capacity) {
+                notFull.await();
+                validateOpen();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("저장 대기 중 인터럽트되었습니다.", e);
+        }
+    }
+
+    private void runFlusher() {
+        boolean written = true;
+
+        while (awaitFlush(written)) {
+            written = writePending();
+        }
+        writePending();
+    }
+
+    private boolean awaitFlush(boolean lastWritten) {
+        lock.lock();
+        try {
+            long remainingNanos = flushIntervalNanos;
+
+            while (!closed && (!lastWritten || pendingWrites.size() < flushSize) && remainingNanos > 0) {
+                remainingNanos = flushRequested.awaitNanos(remainingNanos);
+            }
+
+            return !closed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void flush() {
+        writePending();
+    }
+
+    public void flush(String roomName) {
+        writeLock.lock();
+        try {
+            PendingWrite pendingWrite = takePendingWrite(roomName);
+
+            if (pendingWrite != null && !write(roomName, pendingWrite)) {
+                throw new IllegalStateException("방을 저장하지 못했습니다: " + roomName);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private PendingWrite takePendingWrite(String roomName) {
+        lock.lock();
+        try {
+            PendingWrite pendingWrite = pendingWrites.remove(roomName);
+
+            if (pendingWrite != null) {
+                inFlightCount++;
+            }
+            return pendingWrite;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean writePending() {
+        writeLock.lock();
+        try {
+            Map<String, PendingWrite> batch = takePendingWrites();
+            boolean written = true;
+
+            for (Map.Entry<String, PendingWrite> entry : batch.entrySet()) {
+                written = write(entry.getKey(), entry.getValue()) && written;
+            }
+            return written;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Map<String, PendingWrite> takePendingWrites() {
+        lock.lock();
+        try {
+            Map<String, PendingWrite> batch = pendingWrites;
+
+            pendingWrites = new LinkedHashMap<>();
+            inFlightCount += batch.size();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean write(String roomName, PendingWrite pendingWrite) {
+        try {
+            pendingWrite.writeTo(gameRepository, roomName);
+            writtenCount.incrementAndGet();
+            release();
+            return true;
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            requeue(roomName, pendingWrite);
+            failedCount.incrementAndGet();
+            return false;
+        }
+    }
+
+    private void release() {
+        lock.lock();
+        try {
+            inFlightCount--;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requeue(String roomName, PendingWrite pendingWrite) {
+        lock.lock();
+        try {
+            PendingWrite newer = pendingWrites.remove(roomName);
+
+            inFlightCount--;
+            notFull.signalAll();
+            if (newer == null) {
+                pendingWrites.put(roomName, pendingWrite);
+                return;
+            }
+            pendingWrites.put(roomName, pendingWrite.merge(newer));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pendingWrites.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            flushRequested.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        validateAllWritten();
+    }
+
+    private void validateAllWritten() {
+        lock.lock();
+        try {
+            if (!pendingWrites.isEmpty() || inFlightCount > 0) {
+                throw new IllegalStateException("저장하지 못한 방이 있습니다: " + pendingWrites.keySet());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class PendingWrite {
+        private final boolean deleteFirst;
+        private final GameRoomDto gameRoom;
+        private final Position position;
+        private final Map<String, BoardDto> changedSquares;
+
+        private PendingWrite(boolean deleteFirst, GameRoomDto gameRoom, Position position,
+                             Map<String, BoardDto> changedSquares) {
+            this.deleteFirst = deleteFirst;
+            this.gameRoom = gameRoom;
+            this.position = position;
+            this.changedSquares = changedSquares;
+        }
+
+        private static PendingWrite update(GameRoomDto gameRoom, Position position,
+                                           List<BoardDto> changedBoardDtoList) {
+            Map<String, BoardDto> changedSquares = new LinkedHashMap<>();
+
+            for (BoardDto boardDto : changedBoardDtoList) {
+                changedSquares.put(boardDto.getSource(), boardDto);
+            }
+
+            return new PendingWrite(false, gameRoom, position, changedSquares);
+        }
+
+        private static PendingWrite delete() {
+            return new PendingWrite(true, null, null, Map.of());
+        }
+
+        private PendingWrite merge(PendingWrite newer) {
+            if (newer.deleteFirst || gameRoom == null) {
+                return new PendingWrite(deleteFirst || newer.deleteFirst, newer.gameRoom, newer.position,
+                        newer.changedSquares);
+            }
+
+            Map<String, BoardDto> mergedSquares = new LinkedHashMap<>(changedSquares);
+            mergedSquares.putAll(newer.changedSquares);
+            return new PendingWrite(deleteFirst, newer.gameRoom, newer.position, mergedSquares);
+        }
+
+        private void writeTo(GameRepository gameRepository, String roomName) {
+            if (deleteFirst) {
+                gameRepository.deleteAllByName(roomName);
+            }
+
+            if (gameRoom == null) {
+                return;
+            }
+
+            gameRepository.saveOrUpdate(gameRoom, position, new ArrayList<>(changedSquares.values()));
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package chess.domain;
 
-import chess.domain.board.Chessboard;
+import chess.domain.board.Board;
 import chess.domain.board.Rank;
 import chess.domain.piece.Camp;
 import chess.domain.piece.Piece;
@@ -26,17 +26,17 @@ public class BoardInitializer {
     private BoardInitializer() {
     }
 
-    public static void initializeBoard(Chessboard chessboard) {
+    public static void initializeBoard(Board chessboard) {
         setWhitePieces(chessboard);
         setBlackPieces(chessboard);
     }
 
-    private static void setWhitePieces(Chessboard chessboard) {
+    private static void setWhitePieces(Board chessboard) {
         chessboard.putPiece(Rank.TWO, initializePawn(Camp.WHITE));
         chessboard.putPiece(Rank.ONE, initializeWithoutPawn(Camp.WHITE));
     }
 
-    private static void setBlackPieces(Chessboard chessboard) {
+    private static void setBlackPieces(Board chessboard) {
         chessboard.putPiece(Rank.EIGHT, initializeWithoutPawn(Camp.BLACK));
         chessboard.putPiece(Rank.SEVEN, initializePawn(Camp.BLACK));
     }
@@ -1,37 +1,72 @@
 package chess.domain;
 
-import chess.domain.board.Chessboard;
-import chess.domain.board.File;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
 import chess.domain.board.Square;
+import chess.domain.board.Zobrist;
+import chess.domain.move.Move;
+import chess.domain.move.MoveGenerator;
+import chess.domain.move.MoveHistory;
+import chess.domain.move.MoveList;
 import chess.domain.piece.Camp;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceType;
 
-import java.util.Arrays;
-import java.util.Map;
-
 public class ChessGame {
-    private final Chessboard chessboard;
+    private final Board chessboard;
     private final RoomName roomName;
+    private final MoveList moveBuffer;
+    private final MoveHistory moveHistory;
     private Turn turn;
+    private GameStatus status;
+    private volatile Position position;
 
     public ChessGame(RoomName roomName) {
+        this(roomName, createInitialBoard());
+    }
+
+    public ChessGame(RoomName roomName, Board chessboard) {
         turn = new Turn();
         this.roomName = roomName;
-        chessboard = new Chessboard();
+        this.chessboard = chessboard;
+        this.moveBuffer = new MoveList();
+        this.moveHistory = new MoveHistory();
+        this.position = Position.of(chessboard, true);
+    }
+
+    private static Board createInitialBoard() {
+        Board chessboard = new BitboardChessboard();
         BoardInitializer.initializeBoard(chessboard);
+
+        return chessboard;
     }
 
     public void move(Square source, Square target) {
+        move(source, target, PieceType.EMPTY);
+    }
+
+    public void move(Square source, Square target, PieceType promotion) {
         validateTurn(source);
 
-        if (canMove(source, target)) {
-            chessboard.swapPiece(source, target);
-            passTurn();
+        if (!canMove(source, target)) {
+            throw new IllegalArgumentException("이동할 수 없는 위치입니다");
+        }
+
+        validateKingSafety(source, target);
+        chessboard.swapPiece(source, target);
+        if (promotion != PieceType.EMPTY && canPromotion(target)) {
+            replacePawn(target, promotion);
+        }
+        nextTurn();
+        publishPosition();
+    }
+
+    private void validateKingSafety(Square source, Square target) {
+        if (MoveGenerator.isLegal(chessboard, turn.getCamp(), Move.of(source, target))) {
             return;
         }
 
-        throw new IllegalArgumentException("이동할 수 없는 위치입니다");
+        throw new IllegalArgumentException("King이 공격받는 위치가 되므로 이동할 수 없습니다.");
     }
 
     private void validateTurn(Square square) {
@@ -100,16 +135,67 @@ public class ChessGame {
         return false;
     }
 
+    public void makeMove(int move) {
+        Square source = Move.getSourceSquare(move);
+        Square target = Move.getTargetSquare(move);
+
+        moveHistory.push(move, chessboard.getPieceAt(target));
+        chessboard.swapPiece(source, target);
+        if (Move.isPromotion(move)) {
+            replacePawn(target, Move.getPromotion(move));
+        }
+        nextTurn();
+    }
+
+    public void unmakeMove() {
+        int move = moveHistory.getLastMove();
+        Square source = Move.getSourceSquare(move);
+        Square target = Move.getTargetSquare(move);
+        Piece movedPiece = chessboard.getPieceAt(target);
+
+        nextTurn();
+        if (Move.isPromotion(move)) {
+            movedPiece = PieceType.PAWN.createPiece(turn.getCamp());
+        }
+        chessboard.putPiece(source, movedPiece);
+        chessboard.putPiece(target, moveHistory.getLastCapturedPiece());
+        moveHistory.pop();
+    }
+
+    public MoveList generateLegalMoves(MoveList moves) {
+        return MoveGenerator.generateLegalMoves(chessboard, turn.getCamp(), moves);
+    }
+
+    public MoveList generatePseudoLegalMoves(MoveList moves) {
+        return MoveGenerator.generatePseudoLegalMoves(chessboard, turn.getCamp(), moves);
+    }
+
+    public long getPositionKey() {
+        return chessboard.getZobristKey() ^ Zobrist.getTurnKey(isWhiteTurn());
+    }
+
     public boolean isWhiteTurn() {
         return turn.isMoveOrder(PieceType.PAWN.createPiece(Camp.WHITE));
     }
 
     public void passTurn() {
+        nextTurn();
+        publishPosition();
+    }
+
+    private void nextTurn() {
         turn = turn.nextTurn();
+        status = null;
     }
 
     public void promotePawn(Square currentSquare, PieceType pieceType) {
+        replacePawn(currentSquare, pieceType);
+        publishPosition();
+    }
+
+    private void replacePawn(Square currentSquare, PieceType pieceType) {
         Piece pawn = chessboard.getPieceAt(currentSquare);
+        status = null;
 
         if (pawn.isWhite()) {
             chessboard.putPiece(currentSquare, pieceType.createPiece(Camp.WHITE));
@@ -119,6 +205,13 @@ public class ChessGame {
         chessboard.putPiece(currentSquare, pieceType.createPiece(Camp.BLACK));
     }
 
+    public boolean isPromotionMove(Square source, Square target) {
+        Piece piece = chessboard.getPieceAt(source);
+
+        return piece.getPieceType() == PieceType.PAWN
+                && target.reachedEndRank();
+    }
+
     public boolean canPromotion(Square currentSquare) {
         Piece piece = chessboard.getPieceAt(currentSquare);
 
@@ -126,6 +219,81 @@ public class ChessGame {
                 && currentSquare.reachedEndRank();
     }
 
+    public GameStatus getStatus() {
+        if (status == null) {
+            status = calculateStatus();
+        }
+
+        return status;
+    }
+
+    private GameStatus calculateStatus() {
+        return calculateStatus(chessboard, turn.getCamp(), moveBuffer);
+    }
+
+    static GameStatus calculateStatus(Board chessboard, Camp camp, MoveList moves) {
+        if (chessboard.getPieces(PieceType.KING, Camp.WHITE) == 0
+                || chessboard.getPieces(PieceType.KING, Camp.BLACK) == 0) {
+            return GameStatus.KING_CAPTURED;
+        }
+
+        if (MoveGenerator.generateLegalMoves(chessboard, camp, moves).isEmpty()) {
+            return calculateEndStatus(chessboard, camp);
+        }
+
+        if (isCheck(chessboard, camp)) {
+            return GameStatus.CHECK;
+        }
+
+        return GameStatus.PLAYING;
+    }
+
+    private static GameStatus calculateEndStatus(Board chessboard, Camp camp) {
+        if (isCheck(chessboard, camp)) {
+            return GameStatus.CHECKMATE;
+        }
+
+        return GameStatus.STALEMATE;
+    }
+
+    public boolean isCheck() {
+        return isCheck(chessboard, turn.getCamp());
+    }
+
+    private static boolean isCheck(Board chessboard, Camp camp) {
+        return (chessboard.getAttacks(camp.getOpposite()) & chessboard.getPieces(PieceType.KING, camp)) != 0;
+    }
+
+    public boolean isCheckmate() {
+        return getStatus() == GameStatus.CHECKMATE;
+    }
+
+    public boolean isStalemate() {
+        return getStatus() == GameStatus.STALEMATE;
+    }
+
+    public boolean isGameOver() {
+        return getStatus().isFinished();
+    }
+
+    public Camp getWinner() {
+        GameStatus gameStatus = getStatus();
+
+        if (gameStatus == GameStatus.CHECKMATE) {
+            return turn.getCamp().getOpposite();
+        }
+
+        if (gameStatus == GameStatus.KING_CAPTURED && isWhiteKingAlive()) {
+            return Camp.WHITE;
+        }
+
+        if (gameStatus == GameStatus.KING_CAPTURED) {
+            return Camp.BLACK;
+        }
+
+        return Camp.NONE;
+    }
+
     public boolean isBothKingAlive() {
         return isWhiteKingAlive() && isBlackKingAlive();
     }
@@ -143,25 +311,29 @@ public class ChessGame {
     }
 
     public double calculateScoreOf(Camp camp) {
-        Map<PieceType, Integer> alivePieceAndCountMap = chessboard.getAlivePieceAndCountMap(camp);
+        return chessboard.calculateScoreOf(camp);
+    }
+
+    public ChessGame copy() {
+        ChessGame chessGame = new ChessGame(roomName, chessboard.copy());
 
-        double sum = alivePieceAndCountMap.keySet().stream()
-                .mapToDouble(pieceType -> alivePieceAndCountMap.get(pieceType) * pieceType.getScore())
-                .sum();
+        if (!isWhiteTurn()) {
+            chessGame.passTurn();
+        }
 
-        return applyPawnScoreAtSameFile(sum, camp);
+        return chessGame;
     }
 
-    private double applyPawnScoreAtSameFile(double sum, Camp camp) {
-        double countPawnOfDuplicateFile = Arrays.stream(File.values())
-                .mapToInt(file -> chessboard.countSameCampPawnInFile(camp, file))
-                .filter(count -> count > 1)
-                .sum();
+    public void publishPosition() {
+        status = null;
+        position = Position.of(chessboard, isWhiteTurn());
+    }
 
-        return sum - (countPawnOfDuplicateFile * 0.5);
+    public Position getPosition() {
+        return position;
     }
 
-    public Chessboard getChessboard() {
+    public Board getChessboard() {
         return chessboard;
     }
 
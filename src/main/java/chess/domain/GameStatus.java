@@ -0,0 +1,13 @@
+package chess.domain;
+
+public enum GameStatus {
+    PLAYING,
+    CHECK,
+    CHECKMATE,
+    STALEMATE,
+    KING_CAPTURED;
+
+    public boolean isFinished() {
+        return this == CHECKMATE || this == STALEMATE || this == KING_CAPTURED;
+    }
+}
@@ -0,0 +1,120 @@
+package chess.domain;
+
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.domain.board.Square;
+import chess.domain.move.MoveList;
+import chess.domain.piece.Camp;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+
+public final class Position {
+    private static final int CAMP_COUNT = 2;
+    private static final PieceType[] PIECE_TYPES = {
+            PieceType.PAWN, PieceType.ROOK, PieceType.KNIGHT, PieceType.BISHOP, PieceType.QUEEN, PieceType.KING
+    };
+
+    private final long[] pieces;
+    private final boolean whiteTurn;
+    private final double whiteScore;
+    private final double blackScore;
+    private volatile GameStatus status;
+
+    private Position(long[] pieces, boolean whiteTurn, double whiteScore, double blackScore) {
+        this.pieces = pieces;
+        this.whiteTurn = whiteTurn;
+        this.whiteScore = whiteScore;
+        this.blackScore = blackScore;
+    }
+
+    public static Position of(Board board, boolean whiteTurn) {
+        long[] pieces = new long[CAMP_COUNT * PIECE_TYPES.length];
+
+        for (PieceType pieceType : PIECE_TYPES) {
+            pieces[indexOf(Camp.BLACK, pieceType)] = board.getPieces(pieceType, Camp.BLACK);
+            pieces[indexOf(Camp.WHITE, pieceType)] = board.getPieces(pieceType, Camp.WHITE);
+        }
+
+        return new Position(pieces, whiteTurn,
+                board.calculateScoreOf(Camp.WHITE), board.calculateScoreOf(Camp.BLACK));
+    }
+
+    private static int indexOf(Camp camp, PieceType pieceType) {
+        return camp.ordinal() * PIECE_TYPES.length + pieceType.ordinal();
+    }
+
+    public Piece getPieceAt(Square square) {
+        long bit = 1L << square.getIndex();
+
+        for (int index = 0; index < pieces.length; index++) {
+            if ((pieces[index] & bit) != 0) {
+                return pieceOf(index);
+            }
+        }
+
+        return PieceType.EMPTY.createPiece(Camp.NONE);
+    }
+
+    private static Piece pieceOf(int index) {
+        return PIECE_TYPES[index % PIECE_TYPES.length].createPiece(Camp.values()[index / PIECE_TYPES.length]);
+    }
+
+    public long getPieces(PieceType pieceType, Camp camp) {
+        if (pieceType == PieceType.EMPTY || camp == Camp.NONE) {
+            return 0L;
+        }
+
+        return pieces[indexOf(camp, pieceType)];
+    }
+
+    public boolean isWhiteTurn() {
+        return whiteTurn;
+    }
+
+    public double calculateScoreOf(Camp camp) {
+        if (camp == Camp.WHITE) {
+            return whiteScore;
+        }
+
+        if (camp == Camp.BLACK) {
+            return blackScore;
+        }
+
+        return 0;
+    }
+
+    public GameStatus getStatus() {
+        GameStatus calculated = status;
+
+        if (calculated == null) {
+            calculated = ChessGame.calculateStatus(toBoard(), findTurnCamp(), new MoveList());
+            status = calculated;
+        }
+
+        return calculated;
+    }
+
+    private Board toBoard() {
+        Board board = new BitboardChessboard();
+
+        for (int index = 0; index < pieces.length; index++) {
+            Piece piece = pieceOf(index);
+            long squares = pieces[index];
+
+            while (squares != 0) {
+                board.putPiece(Square.getInstanceOf(Long.numberOfTrailingZeros(squares)), piece);
+                squares &= squares - 1;
+            }
+        }
+
+        return board;
+    }
+
+    private Camp findTurnCamp() {
+        if (whiteTurn) {
+            return Camp.WHITE;
+        }
+
+        return Camp.BLACK;
+    }
+}
@@ -1,5 +1,7 @@
 package chess.domain;
 
+import java.util.Objects;
+
 public class RoomName {
     private static final int MAX_LENGTH = 10;
 
@@ -24,4 +26,17 @@ public class RoomName {
     public String getRoomName() {
         return roomName;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RoomName that = (RoomName) o;
+        return Objects.equals(roomName, that.roomName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(roomName);
+    }
 }
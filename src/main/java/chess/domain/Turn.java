@@ -22,4 +22,8 @@ public class Turn {
         return piece.isSameCamp(turn);
     }
 
+    public Camp getCamp() {
+        return turn;
+    }
+
 }
@@ -0,0 +1,112 @@
+package chess.domain.board;
+
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+
+public class AttackTable {
+    private static final int SQUARE_COUNT = 64;
+    private static final int LINE_LENGTH = 8;
+    private static final int[][] KNIGHT_OFFSETS = {
+            {-2, -1}, {-2, 1}, {-1, -2}, {-1, 2}, {1, -2}, {1, 2}, {2, -1}, {2, 1}
+    };
+    private static final int[][] KING_OFFSETS = {
+            {-1, -1}, {-1, 0}, {-1, 1}, {0, -1}, {0, 1}, {1, -1}, {1, 0}, {1, 1}
+    };
+    private static final PieceType[] PIECE_TYPES_WITHOUT_PAWN = {
+            PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN, PieceType.KING
+    };
+    private static final int[][] WHITE_PAWN_OFFSETS = {{-1, -1}, {-1, 1}};
+    private static final int[][] BLACK_PAWN_OFFSETS = {{1, -1}, {1, 1}};
+
+    private static final long[] KNIGHT_ATTACKS = new long[SQUARE_COUNT];
+    private static final long[] KING_ATTACKS = new long[SQUARE_COUNT];
+    private static final long[] WHITE_PAWN_ATTACKS = new long[SQUARE_COUNT];
+    private static final long[] BLACK_PAWN_ATTACKS = new long[SQUARE_COUNT];
+
+    static {
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            KNIGHT_ATTACKS[square] = initializeAttacks(square, KNIGHT_OFFSETS);
+            KING_ATTACKS[square] = initializeAttacks(square, KING_OFFSETS);
+            WHITE_PAWN_ATTACKS[square] = initializeAttacks(square, WHITE_PAWN_OFFSETS);
+            BLACK_PAWN_ATTACKS[square] = initializeAttacks(square, BLACK_PAWN_OFFSETS);
+        }
+    }
+
+    private AttackTable() {
+    }
+
+    private static long initializeAttacks(int source, int[][] offsets) {
+        long attacks = 0L;
+
+        for (int[] offset : offsets) {
+            int row = source / LINE_LENGTH + offset[0];
+            int column = source % LINE_LENGTH + offset[1];
+
+            if (isInside(row) && isInside(column)) {
+                attacks |= 1L << (row * LINE_LENGTH + column);
+            }
+        }
+
+        return attacks;
+    }
+
+    private static boolean isInside(int value) {
+        return value >= 0 && value < LINE_LENGTH;
+    }
+
+    public static long getAttacks(PieceType pieceType, int source, long occupancy) {
+        switch (pieceType) {
+            case KNIGHT:
+                return KNIGHT_ATTACKS[source];
+            case KING:
+                return KING_ATTACKS[source];
+            case ROOK:
+                return RouteTable.getStraightAttacks(source, occupancy);
+            case BISHOP:
+                return RouteTable.getDiagonalAttacks(source, occupancy);
+            case QUEEN:
+                return RouteTable.getStraightAttacks(source, occupancy)
+                        | RouteTable.getDiagonalAttacks(source, occupancy);
+            default:
+                throw new IllegalArgumentException("공격 범위를 계산할 수 없는 기물입니다.");
+        }
+    }
+
+    public static long getAttacks(Board board, Camp camp) {
+        long occupancy = board.getOccupancy(Camp.WHITE) | board.getOccupancy(Camp.BLACK);
+        long attacks = 0L;
+
+        long pawns = board.getPieces(PieceType.PAWN, camp);
+        while (pawns != 0) {
+            attacks |= getPawnAttacks(camp, Long.numberOfTrailingZeros(pawns));
+            pawns &= pawns - 1;
+        }
+
+        for (PieceType pieceType : PIECE_TYPES_WITHOUT_PAWN) {
+            long pieces = board.getPieces(pieceType, camp);
+
+            while (pieces != 0) {
+                attacks |= getAttacks(pieceType, Long.numberOfTrailingZeros(pieces), occupancy);
+                pieces &= pieces - 1;
+            }
+        }
+
+        return attacks;
+    }
+
+    public static long getKnightAttacks(int source) {
+        return KNIGHT_ATTACKS[source];
+    }
+
+    public static long getKingAttacks(int source) {
+        return KING_ATTACKS[source];
+    }
+
+    public static long getPawnAttacks(Camp camp, int source) {
+        if (camp == Camp.WHITE) {
+            return WHITE_PAWN_ATTACKS[source];
+        }
+
+        return BLACK_PAWN_ATTACKS[source];
+    }
+}
@@ -0,0 +1,258 @@
+package chess.domain.board;
+
+import chess.domain.piece.Camp;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BitboardChessboard implements Board {
+    private static final int SQUARE_COUNT = 64;
+    private static final int CAMP_COUNT = 2;
+    private static final long FILE_A_MASK = 0x0101010101010101L;
+    private static final PieceType[] PIECE_TYPES = {
+            PieceType.PAWN, PieceType.ROOK, PieceType.KNIGHT, PieceType.BISHOP, PieceType.QUEEN, PieceType.KING
+    };
+
+    private final long[][] pieces;
+    private final long[] occupancy;
+    private final long[] attacks;
+    private final Material material;
+    private boolean attacksUpdated;
+    private long zobristKey;
+    private long dirtySquares;
+
+    public BitboardChessboard() {
+        this.pieces = new long[CAMP_COUNT][PIECE_TYPES.length];
+        this.occupancy = new long[CAMP_COUNT];
+        this.attacks = new long[CAMP_COUNT];
+        this.material = new Material();
+    }
+
+    private BitboardChessboard(BitboardChessboard other) {
+        this.pieces = new long[CAMP_COUNT][];
+        for (int camp = 0; camp < CAMP_COUNT; camp++) {
+            this.pieces[camp] = other.pieces[camp].clone();
+        }
+        this.occupancy = other.occupancy.clone();
+        this.attacks = other.attacks.clone();
+        this.attacksUpdated = other.attacksUpdated;
+        this.material = other.material.copy();
+        this.zobristKey = other.zobristKey;
+        this.dirtySquares = other.dirtySquares;
+    }
+
+    @Override
+    public void putPiece(Rank rank, List<Piece> pieces) {
+        File[] files = File.values();
+
+        for (int i = 0, end = files.length; i < end; i++) {
+            putPiece(Square.getInstanceOf(files[i], rank), pieces.get(i));
+        }
+    }
+
+    @Override
+    public void putPiece(Square square, Piece piece) {
+        int index = square.getIndex();
+
+        attacksUpdated = false;
+        dirtySquares |= 1L << index;
+        removePieceAt(index);
+        if (piece.getPieceType() != PieceType.EMPTY) {
+            addPiece(index, piece);
+        }
+    }
+
+    private void removePieceAt(int index) {
+        long bit = 1L << index;
+
+        for (int camp = 0; camp < CAMP_COUNT; camp++) {
+            if ((occupancy[camp] & bit) == 0) {
+                continue;
+            }
+
+            occupancy[camp] &= ~bit;
+            removePieceAt(camp, index);
+        }
+    }
+
+    private void removePieceAt(int camp, int index) {
+        long bit = 1L << index;
+
+        for (int type = 0; type < PIECE_TYPES.length; type++) {
+            if ((pieces[camp][type] & bit) != 0) {
+                pieces[camp][type] &= ~bit;
+                zobristKey ^= Zobrist.getPieceKey(camp, type, index);
+                material.remove(camp, type, index);
+            }
+        }
+    }
+
+    private void addPiece(int index, Piece piece) {
+        int camp = campIndexOf(piece);
+        int type = piece.getPieceType().ordinal();
+
+        occupancy[camp] |= 1L << index;
+        pieces[camp][type] |= 1L << index;
+        zobristKey ^= Zobrist.getPieceKey(camp, type, index);
+        material.add(camp, type, index);
+    }
+
+    @Override
+    public Piece getPieceAt(Square square) {
+        long bit = toBit(square);
+
+        for (int camp = 0; camp < CAMP_COUNT; camp++) {
+            if ((occupancy[camp] & bit) != 0) {
+                return findPieceAt(camp, bit);
+            }
+        }
+
+        return PieceType.EMPTY.createPiece(Camp.NONE);
+    }
+
+    private Piece findPieceAt(int camp, long bit) {
+        for (int type = 0; type < PIECE_TYPES.length; type++) {
+            if ((pieces[camp][type] & bit) != 0) {
+                return PIECE_TYPES[type].createPiece(Camp.values()[camp]);
+            }
+        }
+
+        throw new IllegalStateException("기물 정보가 손상되었습니다.");
+    }
+
+    @Override
+    public void swapPiece(Square source, Square target) {
+        Piece sourcePiece = getPieceAt(source);
+
+        putPiece(target, sourcePiece);
+        putPiece(source, PieceType.EMPTY.createPiece(Camp.NONE));
+    }
+
+    @Override
+    public boolean isEmptyInRoute(Square source, Square target) {
+        return (RouteTable.getBetween(source, target) & getOccupancy()) == 0;
+    }
+
+    @Override
+    public Map<PieceType, Integer> getAlivePieceAndCountMap(Camp camp) {
+        Map<PieceType, Integer> alivePieceAndCountMap = new EnumMap<>(PieceType.class);
+
+        if (camp == Camp.NONE) {
+            alivePieceAndCountMap.put(PieceType.EMPTY, countEmptySquares());
+            return alivePieceAndCountMap;
+        }
+
+        long[] campPieces = pieces[camp.ordinal()];
+        for (int type = 0; type < PIECE_TYPES.length; type++) {
+            int count = Long.bitCount(campPieces[type]);
+
+            if (count != 0) {
+                alivePieceAndCountMap.put(PIECE_TYPES[type], count);
+            }
+        }
+
+        return alivePieceAndCountMap;
+    }
+
+    @Override
+    public int countSamePieceOnBoard(Piece targetPiece) {
+        PieceType pieceType = targetPiece.getPieceType();
+
+        if (pieceType == PieceType.EMPTY) {
+            return countEmptySquares();
+        }
+
+        return Long.bitCount(pieces[campIndexOf(targetPiece)][pieceType.ordinal()]);
+    }
+
+    private int countEmptySquares() {
+        return SQUARE_COUNT - Long.bitCount(getOccupancy());
+    }
+
+    @Override
+    public int countSameCampPawnInFile(Camp camp, File file) {
+        Piece targetPawn = PieceType.PAWN.createPiece(camp);
+        long pawns = pieces[campIndexOf(targetPawn)][PieceType.PAWN.ordinal()];
+
+        return Long.bitCount(pawns & (FILE_A_MASK << (file.getValue() - 1)));
+    }
+
+    @Override
+    public Map<Square, Piece> getBoardMap() {
+        Map<Square, Piece> board = new LinkedHashMap<>();
+
+        for (int index = 0; index < SQUARE_COUNT; index++) {
+            Square square = Square.getInstanceOf(index);
+            board.put(square, getPieceAt(square));
+        }
+
+        return Collections.unmodifiableMap(board);
+    }
+
+    @Override
+    public long getPieces(PieceType pieceType, Camp camp) {
+        return pieces[camp.ordinal()][pieceType.ordinal()];
+    }
+
+    @Override
+    public long getOccupancy(Camp camp) {
+        return occupancy[camp.ordinal()];
+    }
+
+    @Override
+    public long getAttacks(Camp camp) {
+        if (!attacksUpdated) {
+            attacks[Camp.BLACK.ordinal()] = AttackTable.getAttacks(this, Camp.BLACK);
+            attacks[Camp.WHITE.ordinal()] = AttackTable.getAttacks(this, Camp.WHITE);
+            attacksUpdated = true;
+        }
+
+        return attacks[camp.ordinal()];
+    }
+
+    @Override
+    public double calculateScoreOf(Camp camp) {
+        return material.calculateScoreOf(camp);
+    }
+
+    @Override
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    @Override
+    public long getDirtySquares() {
+        return dirtySquares;
+    }
+
+    @Override
+    public void clearDirtySquares() {
+        dirtySquares = 0L;
+    }
+
+    @Override
+    public Board copy() {
+        return new BitboardChessboard(this);
+    }
+
+    private long getOccupancy() {
+        return occupancy[Camp.BLACK.ordinal()] | occupancy[Camp.WHITE.ordinal()];
+    }
+
+    private static long toBit(Square square) {
+        return 1L << square.getIndex();
+    }
+
+    private static int campIndexOf(Piece piece) {
+        if (piece.isWhite()) {
+            return Camp.WHITE.ordinal();
+        }
+
+        return Camp.BLACK.ordinal();
+    }
+}
@@ -0,0 +1,44 @@
+package chess.domain.board;
+
+import chess.domain.piece.Camp;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+
+import java.util.List;
+import java.util.Map;
+
+public interface Board {
+    void putPiece(Rank rank, List<Piece> pieces);
+
+    void putPiece(Square square, Piece piece);
+
+    Piece getPieceAt(Square square);
+
+    void swapPiece(Square source, Square target);
+
+    boolean isEmptyInRoute(Square source, Square target);
+
+    Map<PieceType, Integer> getAlivePieceAndCountMap(Camp camp);
+
+    int countSamePieceOnBoard(Piece targetPiece);
+
+    int countSameCampPawnInFile(Camp camp, File file);
+
+    Map<Square, Piece> getBoardMap();
+
+    long getPieces(PieceType pieceType, Camp camp);
+
+    long getOccupancy(Camp camp);
+
+    long getAttacks(Camp camp);
+
+    double calculateScoreOf(Camp camp);
+
+    long getZobristKey();
+
+    long getDirtySquares();
+
+    void clearDirtySquares();
+
+    Board copy();
+}
@@ -8,11 +8,15 @@ import chess.domain.piece.PieceType;
 import java.util.*;
 import java.util.stream.Collectors;
 
-public class Chessboard {
+public class Chessboard implements Board {
     private final Map<Square, Piece> board;
+    private final Material material;
+    private long zobristKey;
+    private long dirtySquares;
 
     public Chessboard() {
         this.board = new HashMap<>();
+        this.material = new Material();
 
         for (File file : File.values()) {
             putFile(file);
@@ -26,47 +30,70 @@ public class Chessboard {
         }
     }
 
+    @Override
     public void putPiece(Rank rank, List<Piece> pieces) {
         List<File> values = Arrays.asList(File.values());
 
         for (int i = 0, end = values.size(); i < end; i++) {
-            board.put(Square.getInstanceOf(values.get(i), rank), pieces.get(i));
+            putPiece(Square.getInstanceOf(values.get(i), rank), pieces.get(i));
         }
     }
 
+    @Override
     public void putPiece(Square square, Piece piece) {
-        board.put(square, piece);
+        Piece previousPiece = board.put(square, piece);
+
+        zobristKey ^= Zobrist.getPieceKey(previousPiece, square) ^ Zobrist.getPieceKey(piece, square);
+        dirtySquares |= 1L << square.getIndex();
+        updateMaterial(previousPiece, piece, square);
+    }
+
+    private void updateMaterial(Piece previousPiece, Piece piece, Square square) {
+        if (previousPiece.getPieceType() != PieceType.EMPTY) {
+            material.remove(campIndexOf(previousPiece), previousPiece.getPieceType().ordinal(), square.getIndex());
+        }
+
+        if (piece.getPieceType() != PieceType.EMPTY) {
+            material.add(campIndexOf(piece), piece.getPieceType().ordinal(), square.getIndex());
+        }
+    }
+
+    private static int campIndexOf(Piece piece) {
+        if (piece.isWhite()) {
+            return Camp.WHITE.ordinal();
+        }
+
+        return Camp.BLACK.ordinal();
     }
 
+    @Override
     public Piece getPieceAt(Square square) {
         return board.get(square);
     }
 
+    @Override
     public void swapPiece(Square source, Square target) {
-        board.put(target, board.get(source));
-        board.put(source, PieceType.EMPTY.createPiece(Camp.NONE));
+        putPiece(target, board.get(source));
+        putPiece(source, PieceType.EMPTY.createPiece(Camp.NONE));
     }
 
+    @Override
     public boolean isEmptyInRoute(Square source, Square target) {
-        return getMovableRoute(source, target)
-                .stream()
-                .filter(square -> board.get(square).getPieceType() != PieceType.EMPTY)
-                .findAny()
-                .isEmpty();
-    }
+        long route = RouteTable.getBetween(source, target);
 
-    private List<Square> getMovableRoute(Square source, Square target) {
-        if (source.isSameFile(target)) {
-            return source.getSquaresInSameFile(target);
-        }
+        while (route != 0) {
+            Square square = Square.getInstanceOf(Long.numberOfTrailingZeros(route));
 
-        if (source.isSameRank(target)) {
-            return source.getSquaresInSameRank(target);
+            if (board.get(square).getPieceType() != PieceType.EMPTY) {
+                return false;
+            }
+            route &= route - 1;
         }
 
-        return source.getDiagonalSquares(target);
+        return true;
     }
 
+    @Override
     public Map<PieceType, Integer> getAlivePieceAndCountMap(Camp camp) {
         return board.values().stream()
                 .filter(piece -> piece.isSameCamp(camp))
@@ -74,12 +101,14 @@ public class Chessboard {
                 .collect(Collectors.toMap(Piece::getPieceType, this::countSamePieceOnBoard));
     }
 
+    @Override
     public int countSamePieceOnBoard(Piece targetPiece) {
         return (int) board.values().stream()
                 .filter(piece -> piece.equals(targetPiece))
                 .count();
     }
 
+    @Override
     public int countSameCampPawnInFile(Camp camp, File file) {
         Piece targetPawn = PieceType.PAWN.createPiece(camp);
 
@@ -88,7 +117,72 @@ public class Chessboard {
                 .count();
     }
 
+    @Override
     public Map<Square, Piece> getBoardMap() {
         return Collections.unmodifiableMap(board);
     }
+
+    @Override
+    public long getPieces(PieceType pieceType, Camp camp) {
+        Piece targetPiece = pieceType.createPiece(camp);
+        long pieces = 0L;
+
+        for (Map.Entry<Square, Piece> entry : board.entrySet()) {
+            if (entry.getValue().equals(targetPiece)) {
+                pieces |= 1L << entry.getKey().getIndex();
+            }
+        }
+
+        return pieces;
+    }
+
+    @Override
+    public long getOccupancy(Camp camp) {
+        long occupancy = 0L;
+
+        for (Map.Entry<Square, Piece> entry : board.entrySet()) {
+            if (entry.getValue().isSameCamp(camp) && entry.getValue().getPieceType() != PieceType.EMPTY) {
+                occupancy |= 1L << entry.getKey().getIndex();
+            }
+        }
+
+        return occupancy;
+    }
+
+    @Override
+    public long getAttacks(Camp camp) {
+        return AttackTable.getAttacks(this, camp);
+    }
+
+    @Override
+    public double calculateScoreOf(Camp camp) {
+        return material.calculateScoreOf(camp);
+    }
+
+    @Override
+    public long getZobristKey() {
+        return zobristKey;
+    }
+
+    @Override
+    public long getDirtySquares() {
+        return dirtySquares;
+    }
+
+    @Override
+    public void clearDirtySquares() {
+        dirtySquares = 0L;
+    }
+
+    @Override
+    public Board copy() {
+        Chessboard chessboard = new Chessboard();
+
+        for (Map.Entry<Square, Piece> entry : board.entrySet()) {
+            chessboard.putPiece(entry.getKey(), entry.getValue());
+        }
+        chessboard.dirtySquares = dirtySquares;
+
+        return chessboard;
+    }
 }
@@ -0,0 +1,82 @@
+package chess.domain.board;
+
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+
+class Material {
+    private static final int CAMP_COUNT = 2;
+    private static final int LINE_LENGTH = 8;
+    private static final double HALF_POINT = 0.5;
+    private static final int[] HALF_POINTS_BY_TYPE = new int[PieceType.values().length];
+
+    static {
+        for (PieceType pieceType : PieceType.values()) {
+            HALF_POINTS_BY_TYPE[pieceType.ordinal()] = (int) Math.round(pieceType.getScore() / HALF_POINT);
+        }
+    }
+
+    private final int[] halfPoints;
+    private final int[][] pawnCountsInFile;
+    private final int[] stackedPawnCounts;
+
+    Material() {
+        this.halfPoints = new int[CAMP_COUNT];
+        this.pawnCountsInFile = new int[CAMP_COUNT][LINE_LENGTH];
+        this.stackedPawnCounts = new int[CAMP_COUNT];
+    }
+
+    private Material(Material other) {
+        this.halfPoints = other.halfPoints.clone();
+        this.pawnCountsInFile = new int[CAMP_COUNT][];
+        for (int camp = 0; camp < CAMP_COUNT; camp++) {
+            this.pawnCountsInFile[camp] = other.pawnCountsInFile[camp].clone();
+        }
+        this.stackedPawnCounts = other.stackedPawnCounts.clone();
+    }
+
+    void add(int camp, int type, int square) {
+        update(camp, type, square, 1);
+    }
+
+    void remove(int camp, int type, int square) {
+        update(camp, type, square, -1);
+    }
+
+    private void update(int camp, int type, int square, int amount) {
+        halfPoints[camp] += HALF_POINTS_BY_TYPE[type] * amount;
+
+        if (type == PieceType.PAWN.ordinal()) {
+            updatePawnCount(camp, square % LINE_LENGTH, amount);
+        }
+    }
+
+    private void updatePawnCount(int camp, int column, int amount) {
+        int previousCount = pawnCountsInFile[camp][column];
+        int currentCount = previousCount + amount;
+
+        pawnCountsInFile[camp][column] = currentCount;
+        stackedPawnCounts[camp] += countStackedPawns(currentCount) - countStackedPawns(previousCount);
+    }
+
+    private static int countStackedPawns(int pawnCount) {
+        if (pawnCount > 1) {
+            return pawnCount;
+        }
+
+        return 0;
+    }
+
+    double calculateScoreOf(Camp camp) {
+        if (camp == Camp.NONE) {
+            return 0;
+        }
+
+        int index = camp.ordinal();
+
+        return (halfPoints[index] - stackedPawnCounts[index]) * HALF_POINT;
+    }
+
+    Material copy() {
+        return new Material(this);
+    }
+}
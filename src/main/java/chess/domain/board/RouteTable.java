@@ -0,0 +1,94 @@
+package chess.domain.board;
+
+public class RouteTable {
+    private static final int SQUARE_COUNT = 64;
+    private static final int LINE_LENGTH = 8;
+    private static final int[][] STRAIGHT_DIRECTIONS = {
+            {-1, 0}, {1, 0}, {0, -1}, {0, 1}
+    };
+    private static final int[][] DIAGONAL_DIRECTIONS = {
+            {-1, -1}, {-1, 1}, {1, -1}, {1, 1}
+    };
+
+    private static final long[][] STRAIGHT_RAYS = new long[STRAIGHT_DIRECTIONS.length][SQUARE_COUNT];
+    private static final long[][] DIAGONAL_RAYS = new long[DIAGONAL_DIRECTIONS.length][SQUARE_COUNT];
+    private static final long[][] BETWEEN = new long[SQUARE_COUNT][SQUARE_COUNT];
+
+    static {
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            initializeRays(square, STRAIGHT_DIRECTIONS, STRAIGHT_RAYS);
+            initializeRays(square, DIAGONAL_DIRECTIONS, DIAGONAL_RAYS);
+        }
+    }
+
+    private RouteTable() {
+    }
+
+    private static void initializeRays(int source, int[][] directions, long[][] rays) {
+        for (int direction = 0; direction < directions.length; direction++) {
+            rays[direction][source] = initializeRay(source, directions[direction]);
+        }
+    }
+
+    private static long initializeRay(int source, int[] direction) {
+        int row = source / LINE_LENGTH + direction[0];
+        int column = source % LINE_LENGTH + direction[1];
+        long passed = 0L;
+
+        while (isInside(row) && isInside(column)) {
+            int target = row * LINE_LENGTH + column;
+
+            BETWEEN[source][target] = passed;
+            passed |= 1L << target;
+            row += direction[0];
+            column += direction[1];
+        }
+
+        return passed;
+    }
+
+    private static boolean isInside(int value) {
+        return value >= 0 && value < LINE_LENGTH;
+    }
+
+    public static long getBetween(Square source, Square target) {
+        return BETWEEN[source.getIndex()][target.getIndex()];
+    }
+
+    public static long getBetween(int source, int target) {
+        return BETWEEN[source][target];
+    }
+
+    public static long getStraightAttacks(int source, long occupancy) {
+        return getSlidingAttacks(source, occupancy, STRAIGHT_DIRECTIONS, STRAIGHT_RAYS);
+    }
+
+    public static long getDiagonalAttacks(int source, long occupancy) {
+        return getSlidingAttacks(source, occupancy, DIAGONAL_DIRECTIONS, DIAGONAL_RAYS);
+    }
+
+    private static long getSlidingAttacks(int source, long occupancy, int[][] directions, long[][] rays) {
+        long attacks = 0L;
+
+        for (int direction = 0; direction < directions.length; direction++) {
+            long ray = rays[direction][source];
+            long blockers = ray & occupancy;
+
+            if (blockers != 0) {
+                int blocker = findNearestBlocker(blockers, directions[direction]);
+                ray ^= rays[direction][blocker];
+            }
+            attacks |= ray;
+        }
+
+        return attacks;
+    }
+
+    private static int findNearestBlocker(long blockers, int[] direction) {
+        if (direction[0] * LINE_LENGTH + direction[1] > 0) {
+            return Long.numberOfTrailingZeros(blockers);
+        }
+
+        return Long.SIZE - 1 - Long.numberOfLeadingZeros(blockers);
+    }
+}
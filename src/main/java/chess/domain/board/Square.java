@@ -18,10 +18,12 @@ public class Square {
 
     private final File file;
     private final Rank rank;
+    private final int index;
 
     private Square(File file, Rank rank) {
         this.file = file;
         this.rank = rank;
+        this.index = (MAX_RANK_VALUE - rank.getValue()) * MAX_RANK_VALUE + file.getValue() - 1;
     }
 
     public static Square getInstanceOf(File file, Rank rank) {
@@ -32,6 +34,10 @@ public class Square {
         return CASHED_SQUARES.get(index - 1);
     }
 
+    public static Square getInstanceOf(int index) {
+        return CASHED_SQUARES.get(index);
+    }
+
     public static List<Square> getSquaresAt(File file) {
         return Arrays.stream(Rank.values())
                 .map(rank -> getInstanceOf(file, rank))
@@ -103,4 +109,8 @@ public class Square {
     public Rank getRank() {
         return rank;
     }
+
+    public int getIndex() {
+        return index;
+    }
 }
@@ -0,0 +1,76 @@
+package chess.domain.board;
+
+import chess.domain.piece.Camp;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+
+import java.util.SplittableRandom;
+
+public class Zobrist {
+    private static final long SEED = 0x5EED_C4E5_5L;
+    private static final int SQUARE_COUNT = 64;
+    private static final int CAMP_COUNT = 2;
+    private static final int PIECE_TYPE_COUNT = 6;
+
+    private static final long[][][] PIECE_KEYS = new long[CAMP_COUNT][PIECE_TYPE_COUNT][SQUARE_COUNT];
+    private static final long BLACK_TURN_KEY;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+
+        for (int camp = 0; camp < CAMP_COUNT; camp++) {
+            for (int type = 0; type < PIECE_TYPE_COUNT; type++) {
+                for (int square = 0; square < SQUARE_COUNT; square++) {
+                    PIECE_KEYS[camp][type][square] = random.nextLong();
+                }
+            }
+        }
+        BLACK_TURN_KEY = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long getPieceKey(int camp, int pieceType, int square) {
+        return PIECE_KEYS[camp][pieceType][square];
+    }
+
+    public static long getPieceKey(Piece piece, Square square) {
+        if (piece.getPieceType() == PieceType.EMPTY) {
+            return 0L;
+        }
+
+        return PIECE_KEYS[campIndexOf(piece)][piece.getPieceType().ordinal()][square.getIndex()];
+    }
+
+    public static long getTurnKey(boolean isWhiteTurn) {
+        if (isWhiteTurn) {
+            return 0L;
+        }
+
+        return BLACK_TURN_KEY;
+    }
+
+    public static long compute(Board board) {
+        long key = 0L;
+
+        for (int square = 0; square < SQUARE_COUNT; square++) {
+            Square targetSquare = Square.getInstanceOf(square);
+            key ^= getPieceKey(board.getPieceAt(targetSquare), targetSquare);
+        }
+
+        return key;
+    }
+
+    public static long compute(Board board, boolean isWhiteTurn) {
+        return compute(board) ^ getTurnKey(isWhiteTurn);
+    }
+
+    private static int campIndexOf(Piece piece) {
+        if (piece.isWhite()) {
+            return Camp.WHITE.ordinal();
+        }
+
+        return Camp.BLACK.ordinal();
+    }
+}
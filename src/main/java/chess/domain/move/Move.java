@@ -0,0 +1,57 @@
+package chess.domain.move;
+
+import chess.domain.board.Square;
+import chess.domain.piece.PieceType;
+
+public class Move {
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int TARGET_SHIFT = SQUARE_BITS;
+    private static final int PROMOTION_SHIFT = SQUARE_BITS * 2;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private Move() {
+    }
+
+    public static int of(int source, int target) {
+        return source | (target << TARGET_SHIFT);
+    }
+
+    public static int of(int source, int target, PieceType promotion) {
+        return of(source, target) | ((promotion.ordinal() + 1) << PROMOTION_SHIFT);
+    }
+
+    public static int of(Square source, Square target) {
+        return of(source.getIndex(), target.getIndex());
+    }
+
+    public static int getSource(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    public static int getTarget(int move) {
+        return (move >>> TARGET_SHIFT) & SQUARE_MASK;
+    }
+
+    public static Square getSourceSquare(int move) {
+        return Square.getInstanceOf(getSource(move));
+    }
+
+    public static Square getTargetSquare(int move) {
+        return Square.getInstanceOf(getTarget(move));
+    }
+
+    public static boolean isPromotion(int move) {
+        return (move >>> PROMOTION_SHIFT) != 0;
+    }
+
+    public static PieceType getPromotion(int move) {
+        int promotion = move >>> PROMOTION_SHIFT;
+
+        if (promotion == 0) {
+            return PieceType.EMPTY;
+        }
+
+        return PIECE_TYPES[promotion - 1];
+    }
+}
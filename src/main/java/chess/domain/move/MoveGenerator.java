@@ -0,0 +1,174 @@
+package chess.domain.move;
+
+import chess.domain.board.AttackTable;
+import chess.domain.board.Board;
+import chess.domain.board.RouteTable;
+import chess.domain.board.Square;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+
+public class MoveGenerator {
+    private static final int SQUARE_COUNT = 64;
+    private static final int LINE_LENGTH = 8;
+    private static final int WHITE_PAWN_DIRECTION = -LINE_LENGTH;
+    private static final int BLACK_PAWN_DIRECTION = LINE_LENGTH;
+    private static final int WHITE_PAWN_INITIAL_ROW = 6;
+    private static final int BLACK_PAWN_INITIAL_ROW = 1;
+    private static final PieceType[] PIECE_TYPES_WITHOUT_PAWN = {
+            PieceType.KNIGHT, PieceType.BISHOP, PieceType.ROOK, PieceType.QUEEN, PieceType.KING
+    };
+    private static final PieceType[] PROMOTION_TYPES = {
+            PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT
+    };
+
+    private MoveGenerator() {
+    }
+
+    public static MoveList generatePseudoLegalMoves(Board board, Camp camp, MoveList moves) {
+        long own = board.getOccupancy(camp);
+        long enemy = board.getOccupancy(camp.getOpposite());
+        long occupancy = own | enemy;
+
+        moves.clear();
+        addPawnMoves(board.getPieces(PieceType.PAWN, camp), camp, enemy, occupancy, moves);
+        for (PieceType pieceType : PIECE_TYPES_WITHOUT_PAWN) {
+            addPieceMoves(board.getPieces(pieceType, camp), pieceType, own, occupancy, moves);
+        }
+
+        return moves;
+    }
+
+    public static MoveList generateLegalMoves(Board board, Camp camp, MoveList moves) {
+        generatePseudoLegalMoves(board, camp, moves);
+
+        if (board.getPieces(PieceType.KING, camp) == 0) {
+            return moves;
+        }
+
+        int legalCount = 0;
+        for (int i = 0, end = moves.size(); i < end; i++) {
+            int move = moves.get(i);
+
+            if (!leavesKingAttacked(board, camp, move)) {
+                moves.set(legalCount++, move);
+            }
+        }
+        moves.truncate(legalCount);
+
+        return moves;
+    }
+
+    public static boolean isLegal(Board board, Camp camp, int move) {
+        return !leavesKingAttacked(board, camp, move);
+    }
+
+    private static void addPawnMoves(long pawns, Camp camp, long enemy, long occupancy, MoveList moves) {
+        while (pawns != 0) {
+            int source = Long.numberOfTrailingZeros(pawns);
+
+            addPawnPushes(source, camp, occupancy, moves);
+            addPawnCaptures(source, AttackTable.getPawnAttacks(camp, source) & enemy, moves);
+            pawns &= pawns - 1;
+        }
+    }
+
+    private static void addPawnPushes(int source, Camp camp, long occupancy, MoveList moves) {
+        int direction = getPawnDirection(camp);
+        int target = source + direction;
+
+        if (target < 0 || target >= SQUARE_COUNT || (occupancy & (1L << target)) != 0) {
+            return;
+        }
+        addPawnMove(source, target, moves);
+
+        int doublePushTarget = target + direction;
+        if (source / LINE_LENGTH == getPawnInitialRow(camp) && (occupancy & (1L << doublePushTarget)) == 0) {
+            moves.add(Move.of(source, doublePushTarget));
+        }
+    }
+
+    private static void addPawnCaptures(int source, long targets, MoveList moves) {
+        while (targets != 0) {
+            addPawnMove(source, Long.numberOfTrailingZeros(targets), moves);
+            targets &= targets - 1;
+        }
+    }
+
+    private static void addPawnMove(int source, int target, MoveList moves) {
+        if (!Square.getInstanceOf(target).reachedEndRank()) {
+            moves.add(Move.of(source, target));
+            return;
+        }
+
+        for (PieceType promotion : PROMOTION_TYPES) {
+            moves.add(Move.of(source, target, promotion));
+        }
+    }
+
+    private static int getPawnDirection(Camp camp) {
+        if (camp == Camp.WHITE) {
+            return WHITE_PAWN_DIRECTION;
+        }
+
+        return BLACK_PAWN_DIRECTION;
+    }
+
+    private static int getPawnInitialRow(Camp camp) {
+        if (camp == Camp.WHITE) {
+            return WHITE_PAWN_INITIAL_ROW;
+        }
+
+        return BLACK_PAWN_INITIAL_ROW;
+    }
+
+    private static void addPieceMoves(long pieces, PieceType pieceType, long own, long occupancy, MoveList moves) {
+        while (pieces != 0) {
+            int source = Long.numberOfTrailingZeros(pieces);
+            long targets = AttackTable.getAttacks(pieceType, source, occupancy) & ~own;
+
+            while (targets != 0) {
+                moves.add(Move.of(source, Long.numberOfTrailingZeros(targets)));
+                targets &= targets - 1;
+            }
+            pieces &= pieces - 1;
+        }
+    }
+
+    private static boolean leavesKingAttacked(Board board, Camp camp, int move) {
+        long king = board.getPieces(PieceType.KING, camp);
+
+        if (king == 0) {
+            return false;
+        }
+
+        long sourceBit = 1L << Move.getSource(move);
+        long targetBit = 1L << Move.getTarget(move);
+        long occupancy = ((board.getOccupancy(Camp.WHITE) | board.getOccupancy(Camp.BLACK)) & ~sourceBit) | targetBit;
+        int kingSquare = Long.numberOfTrailingZeros(king);
+
+        if ((king & sourceBit) != 0) {
+            kingSquare = Move.getTarget(move);
+        }
+
+        return isAttacked(board, kingSquare, camp.getOpposite(), occupancy, ~targetBit);
+    }
+
+    public static boolean isAttacked(Board board, Square square, Camp attacker) {
+        long occupancy = board.getOccupancy(Camp.WHITE) | board.getOccupancy(Camp.BLACK);
+
+        return isAttacked(board, square.getIndex(), attacker, occupancy, -1L);
+    }
+
+    private static boolean isAttacked(Board board, int square, Camp attacker, long occupancy, long aliveMask) {
+        long queens = board.getPieces(PieceType.QUEEN, attacker);
+        long straightAttackers = (board.getPieces(PieceType.ROOK, attacker) | queens) & aliveMask;
+        long diagonalAttackers = (board.getPieces(PieceType.BISHOP, attacker) | queens) & aliveMask;
+
+        return (AttackTable.getKnightAttacks(square) & board.getPieces(PieceType.KNIGHT, attacker) & aliveMask) != 0
+                || (AttackTable.getPawnAttacks(attacker.getOpposite(), square)
+                & board.getPieces(PieceType.PAWN, attacker) & aliveMask) != 0
+                || (AttackTable.getKingAttacks(square) & board.getPieces(PieceType.KING, attacker) & aliveMask) != 0
+                || (RouteTable.getStraightAttacks(square, occupancy) & straightAttackers) != 0
+                || (RouteTable.getDiagonalAttacks(square, occupancy) & diagonalAttackers) != 0;
+    }
+}
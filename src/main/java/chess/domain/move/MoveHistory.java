@@ -0,0 +1,54 @@
+package chess.domain.move;
+
+import chess.domain.piece.Piece;
+
+import java.util.Arrays;
+
+public class MoveHistory {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] moves;
+    private Piece[] capturedPieces;
+    private int size;
+
+    public MoveHistory() {
+        this.moves = new int[INITIAL_CAPACITY];
+        this.capturedPieces = new Piece[INITIAL_CAPACITY];
+    }
+
+    public void push(int move, Piece capturedPiece) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+            capturedPieces = Arrays.copyOf(capturedPieces, size * 2);
+        }
+
+        moves[size] = move;
+        capturedPieces[size] = capturedPiece;
+        size++;
+    }
+
+    public int getLastMove() {
+        validateNotEmpty();
+        return moves[size - 1];
+    }
+
+    public Piece getLastCapturedPiece() {
+        validateNotEmpty();
+        return capturedPieces[size - 1];
+    }
+
+    public void pop() {
+        validateNotEmpty();
+        capturedPieces[--size] = null;
+    }
+
+    private void validateNotEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("되돌릴 수 있는 이동이 없습니다.");
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -21,8 +21,10 @@ public class King extends Piece {
 
     @Override
     public boolean canMove(Square source, Square target) {
-        return (source.calculateRankDistance(target) == MOVABLE_DISTANCE) ||
-                (source.calculateFileDistance(target) == MOVABLE_DISTANCE);
+        int rankDistance = source.calculateRankDistance(target);
+        int fileDistance = source.calculateFileDistance(target);
+
+        return Math.max(rankDistance, fileDistance) == MOVABLE_DISTANCE;
     }
 
     @Override
@@ -0,0 +1,27 @@
+package chess.dto;
+
+import java.time.Instant;
+
+public class ArchivedRoomDto {
+    private final String roomName;
+    private final Instant updatedAt;
+    private final byte[] boardState;
+
+    public ArchivedRoomDto(String roomName, Instant updatedAt, byte[] boardState) {
+        this.roomName = roomName;
+        this.updatedAt = updatedAt;
+        this.boardState = boardState;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public byte[] getBoardState() {
+        return boardState;
+    }
+}
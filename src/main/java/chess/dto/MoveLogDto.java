@@ -0,0 +1,37 @@
+package chess.dto;
+
+public class MoveLogDto {
+    private final String roomName;
+    private final int ply;
+    private final String source;
+    private final String target;
+    private final String promotion;
+
+    public MoveLogDto(String roomName, int ply, String source, String target, String promotion) {
+        this.roomName = roomName;
+        this.ply = ply;
+        this.source = source;
+        this.target = target;
+        this.promotion = promotion;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getTarget() {
+        return target;
+    }
+
+    public String getPromotion() {
+        return promotion;
+    }
+}
@@ -0,0 +1,25 @@
+package chess.dto;
+
+public class SnapshotDto {
+    private final String roomName;
+    private final int ply;
+    private final byte[] boardState;
+
+    public SnapshotDto(String roomName, int ply, byte[] boardState) {
+        this.roomName = roomName;
+        this.ply = ply;
+        this.boardState = boardState;
+    }
+
+    public String getRoomName() {
+        return roomName;
+    }
+
+    public int getPly() {
+        return ply;
+    }
+
+    public byte[] getBoardState() {
+        return boardState;
+    }
+}
@@ -0,0 +1,7 @@
+package chess.engine;
+
+public enum Bound {
+    EXACT,
+    LOWER,
+    UPPER
+}
@@ -0,0 +1,23 @@
+package chess.engine;
+
+import chess.domain.ChessGame;
+import chess.domain.piece.Camp;
+
+public class Evaluator {
+    private static final int SCORE_SCALE = 100;
+
+    private Evaluator() {
+    }
+
+    public static int evaluate(ChessGame chessGame) {
+        double whiteScore = chessGame.calculateScoreOf(Camp.WHITE);
+        double blackScore = chessGame.calculateScoreOf(Camp.BLACK);
+        int materialBalance = (int) Math.round((whiteScore - blackScore) * SCORE_SCALE);
+
+        if (chessGame.isWhiteTurn()) {
+            return materialBalance;
+        }
+
+        return -materialBalance;
+    }
+}
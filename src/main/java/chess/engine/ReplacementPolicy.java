@@ -0,0 +1,22 @@
+package chess.engine;
+
+public enum ReplacementPolicy {
+    ALWAYS((storedDepth, isStoredInCurrentSearch, depth) -> true),
+    DEPTH_PREFERRED((storedDepth, isStoredInCurrentSearch, depth) -> depth >= storedDepth),
+    AGED_DEPTH_PREFERRED((storedDepth, isStoredInCurrentSearch, depth) ->
+            !isStoredInCurrentSearch || depth >= storedDepth);
+
+    private final Rule rule;
+
+    ReplacementPolicy(Rule rule) {
+        this.rule = rule;
+    }
+
+    public boolean canReplace(int storedDepth, boolean isStoredInCurrentSearch, int depth) {
+        return rule.canReplace(storedDepth, isStoredInCurrentSearch, depth);
+    }
+
+    private interface Rule {
+        boolean canReplace(int storedDepth, boolean isStoredInCurrentSearch, int depth);
+    }
+}
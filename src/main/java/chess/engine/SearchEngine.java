@@ -0,0 +1,381 @@
+package chess.engine;
+
+import chess.domain.ChessGame;
+import chess.domain.board.Board;
+import chess.domain.move.Move;
+import chess.domain.move.MoveList;
+import chess.domain.piece.Camp;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class SearchEngine {
+    public static final int MATE_SCORE = 100_000;
+    private static final int DRAW_SCORE = 0;
+    private static final int INFINITY = MATE_SCORE + 1;
+    private static final int MAX_PLY = SearchLimits.MAX_DEPTH * 2;
+    private static final int NODE_CHECK_INTERVAL = 2048;
+    private static final int DEFAULT_TABLE_MEGABYTES = 16;
+    private static final int PV_MOVE_ORDER = Integer.MAX_VALUE;
+    private static final int[] VICTIM_ORDERS = {1, 5, 3, 3, 9, 100, 0};
+
+    private final TranspositionTable transpositionTable;
+    private final MoveList[] moveLists;
+    private final int[][] moveOrders;
+    private final int[][] principalVariations;
+    private final int[] principalVariationLengths;
+    private final int[] currentMoves;
+    private int[] previousPrincipalVariation;
+    private long nodes;
+    private long startTime;
+    private long timeLimitNanos;
+    private boolean aborted;
+
+    public SearchEngine() {
+        this(new TranspositionTable(DEFAULT_TABLE_MEGABYTES));
+    }
+
+    public SearchEngine(TranspositionTable transpositionTable) {
+        this.transpositionTable = transpositionTable;
+        this.moveLists = new MoveList[MAX_PLY + 1];
+        this.moveOrders = new int[MAX_PLY + 1][MoveList.MAX_MOVES];
+        this.principalVariations = new int[MAX_PLY + 1][MAX_PLY + 1];
+        this.principalVariationLengths = new int[MAX_PLY + 1];
+        this.currentMoves = new int[MAX_PLY + 1];
+
+        for (int ply = 0; ply <= MAX_PLY; ply++) {
+            moveLists[ply] = new MoveList();
+        }
+    }
+
+    public SearchResult search(ChessGame chessGame, SearchLimits limits) {
+        ChessGame position = chessGame.copy();
+        int bestScore = evaluate(position);
+        int completedDepth = 0;
+
+        nodes = 0;
+        aborted = false;
+        startTime = System.nanoTime();
+        timeLimitNanos = TimeUnit.MILLISECONDS.toNanos(limits.getTimeLimitMillis());
+        previousPrincipalVariation = new int[0];
+        transpositionTable.newSearch();
+
+        for (int depth = 1; depth <= limits.getMaxDepth(); depth++) {
+            int score = search(position, depth, 0, -INFINITY, INFINITY);
+
+            if (aborted) {
+                break;
+            }
+
+            previousPrincipalVariation = Arrays.copyOf(principalVariations[0], principalVariationLengths[0]);
+            bestScore = score;
+            completedDepth = depth;
+            if (previousPrincipalVariation.length == 0 || isMateScore(score)) {
+                break;
+            }
+        }
+
+        return createResult(bestScore, completedDepth);
+    }
+
+    private SearchResult createResult(int score, int depth) {
+        int bestMove = 0;
+
+        if (previousPrincipalVariation.length != 0) {
+            bestMove = previousPrincipalVariation[0];
+        }
+
+        return new SearchResult(bestMove, score, depth, previousPrincipalVariation, nodes,
+                System.nanoTime() - startTime);
+    }
+
+    private int search(ChessGame position, int depth, int ply, int alpha, int beta) {
+        principalVariationLengths[ply] = ply;
+
+        if (shouldStop()) {
+            return DRAW_SCORE;
+        }
+
+        if (depth == 0 || ply == MAX_PLY) {
+            return quiescence(position, ply, alpha, beta);
+        }
+
+        nodes++;
+        long key = position.getPositionKey();
+        long entry = transpositionTable.probe(key);
+        int hashMove = 0;
+        if (entry != TranspositionTable.NO_ENTRY) {
+            hashMove = TranspositionTable.getMove(entry);
+        }
+
+        if (ply > 0 && canCutoff(entry, depth, ply, alpha, beta)) {
+            return cutoff(entry, hashMove, ply);
+        }
+
+        MoveList moves = position.generateLegalMoves(moveLists[ply]);
+        if (moves.isEmpty()) {
+            return evaluateTerminal(position, ply);
+        }
+
+        int originalAlpha = alpha;
+        int bestMove = 0;
+        orderMoves(position, moves, ply, hashMove);
+        for (int i = 0, end = moves.size(); i < end; i++) {
+            int move = selectNextMove(moves, ply, i);
+
+            position.makeMove(move);
+            int score = -search(position, depth - 1, ply + 1, -beta, -alpha);
+            position.unmakeMove();
+
+            if (aborted) {
+                return DRAW_SCORE;
+            }
+
+            if (score > alpha) {
+                alpha = score;
+                bestMove = move;
+                updatePrincipalVariation(move, ply);
+            }
+
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        transpositionTable.store(key, depth, findBound(alpha, originalAlpha, beta), toTableScore(alpha, ply),
+                bestMove);
+        return alpha;
+    }
+
+    private boolean canCutoff(long entry, int depth, int ply, int alpha, int beta) {
+        if (entry == TranspositionTable.NO_ENTRY || TranspositionTable.getDepth(entry) < depth) {
+            return false;
+        }
+
+        int score = fromTableScore(TranspositionTable.getScore(entry), ply);
+        Bound bound = TranspositionTable.getBound(entry);
+
+        return bound == Bound.EXACT
+                || (bound == Bound.LOWER && score >= beta)
+                || (bound == Bound.UPPER && score <= alpha);
+    }
+
+    private int cutoff(long entry, int hashMove, int ply) {
+        if (hashMove != 0) {
+            principalVariations[ply][ply] = hashMove;
+            principalVariationLengths[ply] = ply + 1;
+        }
+
+        return fromTableScore(TranspositionTable.getScore(entry), ply);
+    }
+
+    private static Bound findBound(int score, int originalAlpha, int beta) {
+        if (score <= originalAlpha) {
+            return Bound.UPPER;
+        }
+
+        if (score >= beta) {
+            return Bound.LOWER;
+        }
+
+        return Bound.EXACT;
+    }
+
+    private static int toTableScore(int score, int ply) {
+        if (isMateScore(score) && score > 0) {
+            return score + ply;
+        }
+
+        if (isMateScore(score)) {
+            return score - ply;
+        }
+
+        return score;
+    }
+
+    private static int fromTableScore(int score, int ply) {
+        if (isMateScore(score) && score > 0) {
+            return score - ply;
+        }
+
+        if (isMateScore(score)) {
+            return score + ply;
+        }
+
+        return score;
+    }
+
+    private int quiescence(ChessGame position, int ply, int alpha, int beta) {
+        principalVariationLengths[ply] = ply;
+
+        if (shouldStop()) {
+            return DRAW_SCORE;
+        }
+
+        nodes++;
+        MoveList moves = position.generateLegalMoves(moveLists[ply]);
+        if (moves.isEmpty()) {
+            return evaluateTerminal(position, ply);
+        }
+
+        int standPat = evaluate(position);
+        if (standPat >= beta || ply == MAX_PLY) {
+            return standPat;
+        }
+        alpha = Math.max(alpha, standPat);
+
+        int captureCount = keepCaptures(position, moves);
+        orderMoves(position, moves, ply, 0);
+        for (int i = 0; i < captureCount; i++) {
+            int move = selectNextMove(moves, ply, i);
+
+            position.makeMove(move);
+            int score = -quiescence(position, ply + 1, -beta, -alpha);
+            position.unmakeMove();
+
+            if (aborted) {
+                return DRAW_SCORE;
+            }
+
+            if (score > alpha) {
+                alpha = score;
+            }
+
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        return alpha;
+    }
+
+    private boolean shouldStop() {
+        if (previousPrincipalVariation.length == 0 || (nodes & (NODE_CHECK_INTERVAL - 1)) != 0) {
+            return aborted;
+        }
+
+        if (System.nanoTime() - startTime >= timeLimitNanos) {
+            aborted = true;
+        }
+
+        return aborted;
+    }
+
+    private int evaluateTerminal(ChessGame position, int ply) {
+        if (position.isCheck()) {
+            return -MATE_SCORE + ply;
+        }
+
+        return DRAW_SCORE;
+    }
+
+    private int evaluate(ChessGame position) {
+        return Evaluator.evaluate(position);
+    }
+
+    private int keepCaptures(ChessGame position, MoveList moves) {
+        long enemy = getEnemyOccupancy(position);
+        int captureCount = 0;
+
+        for (int i = 0, end = moves.size(); i < end; i++) {
+            int move = moves.get(i);
+
+            if ((enemy & (1L << Move.getTarget(move))) != 0 || Move.isPromotion(move)) {
+                moves.set(captureCount++, move);
+            }
+        }
+        moves.truncate(captureCount);
+
+        return captureCount;
+    }
+
+    private void orderMoves(ChessGame position, MoveList moves, int ply, int hashMove) {
+        Board board = position.getChessboard();
+        long enemy = getEnemyOccupancy(position);
+        int principalMove = hashMove;
+
+        if (principalMove == 0) {
+            principalMove = findPreviousPrincipalMove(ply);
+        }
+
+        for (int i = 0, end = moves.size(); i < end; i++) {
+            int move = moves.get(i);
+
+            if (move == principalMove) {
+                moveOrders[ply][i] = PV_MOVE_ORDER;
+                continue;
+            }
+
+            int order = 0;
+            if ((enemy & (1L << Move.getTarget(move))) != 0) {
+                int victim = board.getPieceAt(Move.getTargetSquare(move)).getPieceType().ordinal();
+                int attacker = board.getPieceAt(Move.getSourceSquare(move)).getPieceType().ordinal();
+                order = VICTIM_ORDERS[victim] * 10 - VICTIM_ORDERS[attacker];
+            }
+            if (Move.isPromotion(move)) {
+                order += VICTIM_ORDERS[Move.getPromotion(move).ordinal()] * 10;
+            }
+            moveOrders[ply][i] = order;
+        }
+    }
+
+    private int findPreviousPrincipalMove(int ply) {
+        if (ply >= previousPrincipalVariation.length || !isFollowingPrincipalVariation(ply)) {
+            return 0;
+        }
+
+        return previousPrincipalVariation[ply];
+    }
+
+    private boolean isFollowingPrincipalVariation(int ply) {
+        for (int i = 0; i < ply; i++) {
+            if (previousPrincipalVariation[i] != currentMoves[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private int selectNextMove(MoveList moves, int ply, int index) {
+        int[] orders = moveOrders[ply];
+        int bestIndex = index;
+
+        for (int i = index + 1, end = moves.size(); i < end; i++) {
+            if (orders[i] > orders[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+
+        int move = moves.get(bestIndex);
+        moves.set(bestIndex, moves.get(index));
+        moves.set(index, move);
+        orders[bestIndex] = orders[index];
+        currentMoves[ply] = move;
+
+        return move;
+    }
+
+    private void updatePrincipalVariation(int move, int ply) {
+        int[] principalVariation = principalVariations[ply];
+        int childLength = principalVariationLengths[ply + 1];
+
+        principalVariation[ply] = move;
+        System.arraycopy(principalVariations[ply + 1], ply + 1, principalVariation, ply + 1, childLength - ply - 1);
+        principalVariationLengths[ply] = childLength;
+    }
+
+    private long getEnemyOccupancy(ChessGame position) {
+        Camp enemy = Camp.BLACK;
+
+        if (!position.isWhiteTurn()) {
+            enemy = Camp.WHITE;
+        }
+
+        return position.getChessboard().getOccupancy(enemy);
+    }
+
+    private static boolean isMateScore(int score) {
+        return Math.abs(score) >= MATE_SCORE - MAX_PLY;
+    }
+}
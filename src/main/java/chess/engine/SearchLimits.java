@@ -0,0 +1,44 @@
+package chess.engine;
+
+public class SearchLimits {
+    public static final int MAX_DEPTH = 32;
+
+    private final int maxDepth;
+    private final long timeLimitMillis;
+
+    public SearchLimits(int maxDepth, long timeLimitMillis) {
+        validateDepth(maxDepth);
+        validateTimeLimit(timeLimitMillis);
+
+        this.maxDepth = maxDepth;
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    public static SearchLimits ofDepth(int maxDepth) {
+        return new SearchLimits(maxDepth, Long.MAX_VALUE);
+    }
+
+    public static SearchLimits ofTime(long timeLimitMillis) {
+        return new SearchLimits(MAX_DEPTH, timeLimitMillis);
+    }
+
+    private void validateDepth(int maxDepth) {
+        if (maxDepth < 1 || maxDepth > MAX_DEPTH) {
+            throw new IllegalArgumentException("탐색 깊이는 1 이상, " + MAX_DEPTH + " 이하여야 합니다.");
+        }
+    }
+
+    private void validateTimeLimit(long timeLimitMillis) {
+        if (timeLimitMillis <= 0) {
+            throw new IllegalArgumentException("탐색 시간은 0보다 커야 합니다.");
+        }
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+}
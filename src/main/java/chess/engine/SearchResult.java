@@ -0,0 +1,54 @@
+package chess.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+public class SearchResult {
+    private final int bestMove;
+    private final int score;
+    private final int depth;
+    private final int[] principalVariation;
+    private final long nodes;
+    private final long elapsedNanos;
+
+    public SearchResult(int bestMove, int score, int depth, int[] principalVariation, long nodes, long elapsedNanos) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.depth = depth;
+        this.principalVariation = Arrays.copyOf(principalVariation, principalVariation.length);
+        this.nodes = nodes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public boolean hasBestMove() {
+        return principalVariation.length != 0;
+    }
+
+    public int getBestMove() {
+        return bestMove;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int[] getPrincipalVariation() {
+        return Arrays.copyOf(principalVariation, principalVariation.length);
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public long getNodesPerSecond() {
+        return nodes * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+    }
+}
@@ -0,0 +1,115 @@
+package chess.engine;
+
+import java.util.Arrays;
+
+public class TranspositionTable {
+    public static final long NO_ENTRY = 0L;
+    private static final int MAX_MEGABYTES = 4096;
+    private static final int BYTES_PER_ENTRY = 2 * Long.BYTES;
+    private static final int BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final int MOVE_SHIFT = 0;
+    private static final int SCORE_SHIFT = 16;
+    private static final int DEPTH_SHIFT = 48;
+    private static final int BOUND_SHIFT = 56;
+    private static final int GENERATION_SHIFT = 58;
+    private static final long MOVE_MASK = 0xFFFFL;
+    private static final long DEPTH_MASK = 0xFFL;
+    private static final long BOUND_MASK = 0x3L;
+    private static final long GENERATION_MASK = 0x3FL;
+    private static final Bound[] BOUNDS = Bound.values();
+
+    private final long[] entries;
+    private final int indexMask;
+    private final ReplacementPolicy replacementPolicy;
+    private int generation;
+
+    public TranspositionTable(int megabytes, ReplacementPolicy replacementPolicy) {
+        validateMegabytes(megabytes);
+
+        int capacity = Integer.highestOneBit((int) ((long) megabytes * BYTES_PER_MEGABYTE / BYTES_PER_ENTRY));
+        this.entries = new long[capacity * 2];
+        this.indexMask = capacity - 1;
+        this.replacementPolicy = replacementPolicy;
+    }
+
+    public TranspositionTable(int megabytes) {
+        this(megabytes, ReplacementPolicy.AGED_DEPTH_PREFERRED);
+    }
+
+    private void validateMegabytes(int megabytes) {
+        if (megabytes < 1 || megabytes > MAX_MEGABYTES) {
+            throw new IllegalArgumentException("치환표 크기는 1MB 이상, " + MAX_MEGABYTES + "MB 이하여야 합니다.");
+        }
+    }
+
+    public void newSearch() {
+        generation = (int) ((generation + 1) & GENERATION_MASK);
+    }
+
+    public long probe(long key) {
+        int index = indexOf(key);
+        long data = entries[index + 1];
+
+        if ((entries[index] ^ data) != key) {
+            return NO_ENTRY;
+        }
+
+        return data;
+    }
+
+    public void store(long key, int depth, Bound bound, int score, int move) {
+        int index = indexOf(key);
+        long storedData = entries[index + 1];
+        long storedKey = entries[index] ^ storedData;
+
+        if (storedData != NO_ENTRY && storedKey != key && !replacementPolicy.canReplace(
+                getDepth(storedData), getGeneration(storedData) == generation, depth)) {
+            return;
+        }
+
+        long data = pack(depth, bound, score, move);
+        entries[index] = key ^ data;
+        entries[index + 1] = data;
+    }
+
+    private long pack(int depth, Bound bound, int score, int move) {
+        return ((move & MOVE_MASK) << MOVE_SHIFT)
+                | ((score & 0xFFFF_FFFFL) << SCORE_SHIFT)
+                | ((depth & DEPTH_MASK) << DEPTH_SHIFT)
+                | ((bound.ordinal() + 1L) << BOUND_SHIFT)
+                | ((long) generation << GENERATION_SHIFT);
+    }
+
+    private int indexOf(long key) {
+        return ((int) key & indexMask) << 1;
+    }
+
+    public void clear() {
+        Arrays.fill(entries, 0L);
+        generation = 0;
+    }
+
+    public int getCapacity() {
+        return indexMask + 1;
+    }
+
+    public static int getMove(long entry) {
+        return (int) ((entry >>> MOVE_SHIFT) & MOVE_MASK);
+    }
+
+    public static int getScore(long entry) {
+        return (int) (entry >>> SCORE_SHIFT);
+    }
+
+    public static int getDepth(long entry) {
+        return (int) ((entry >>> DEPTH_SHIFT) & DEPTH_MASK);
+    }
+
+    public static Bound getBound(long entry) {
+        return BOUNDS[(int) ((entry >>> BOUND_SHIFT) & BOUND_MASK) - 1];
+    }
+
+    private static int getGeneration(long entry) {
+        return (int) ((entry >>> GENERATION_SHIFT) & GENERATION_MASK);
+    }
+}
@@ -0,0 +1,19 @@
+package chess.migration;
+
+import chess.dao.BoardStateMigration;
+import chess.dao.ConnectionPool;
+import chess.dao.DatabaseProperties;
+
+public class BoardStateMigrationApplication {
+    public static void main(String[] args) {
+        DatabaseProperties databaseProperties = DatabaseProperties.load();
+
+        try (ConnectionPool connectionPool = databaseProperties.createMigratedConnectionPool()) {
+            long startTime = System.nanoTime();
+            int migrated = new BoardStateMigration(connectionPool).migrate();
+            long elapsedMillis = (System.nanoTime() - startTime) / 1_000_000;
+
+            System.out.printf("보드를 이진 컬럼으로 옮긴 방: %d개 (%dms)%n", migrated, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package chess.perft;
+
+import chess.domain.ChessGame;
+import chess.domain.move.MoveList;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class Perft {
+    private final MoveList[] moveLists;
+
+    public Perft(int maxDepth) {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("perft 깊이는 0 이상이어야 합니다.");
+        }
+
+        this.moveLists = new MoveList[maxDepth + 1];
+
+        for (int depth = 0; depth <= maxDepth; depth++) {
+            moveLists[depth] = new MoveList();
+        }
+    }
+
+    public long count(ChessGame chessGame, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+
+        MoveList moves = chessGame.generateLegalMoves(moveLists[depth]);
+        if (depth == 1) {
+            return moves.size();
+        }
+
+        long nodes = 0;
+        for (int i = 0, end = moves.size(); i < end; i++) {
+            chessGame.makeMove(moves.get(i));
+            nodes += count(chessGame, depth - 1);
+            chessGame.unmakeMove();
+        }
+
+        return nodes;
+    }
+
+    public Map<Integer, Long> divide(ChessGame chessGame, int depth) {
+        validateDivideDepth(depth);
+        Map<Integer, Long> nodesPerMove = new LinkedHashMap<>();
+        int[] rootMoves = chessGame.generateLegalMoves(new MoveList()).toArray();
+
+        for (int move : rootMoves) {
+            chessGame.makeMove(move);
+            nodesPerMove.put(move, count(chessGame, depth - 1));
+            chessGame.unmakeMove();
+        }
+
+        return nodesPerMove;
+    }
+
+    public static Map<Integer, Long> divideInParallel(ChessGame chessGame, int depth, ForkJoinPool pool) {
+        validateDivideDepth(depth);
+        int[] rootMoves = chessGame.generateLegalMoves(new MoveList()).toArray();
+        List<RootMoveTask> tasks = new ArrayList<>();
+
+        for (int move : rootMoves) {
+            tasks.add(new RootMoveTask(chessGame.copy(), move, depth - 1));
+        }
+
+        return pool.invoke(new RecursiveTask<>() {
+            @Override
+            protected Map<Integer, Long> compute() {
+                invokeAll(tasks);
+
+                Map<Integer, Long> nodesPerMove = new LinkedHashMap<>();
+                for (RootMoveTask task : tasks) {
+                    nodesPerMove.put(task.move, task.join());
+                }
+                return nodesPerMove;
+            }
+        });
+    }
+
+    private static void validateDivideDepth(int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("루트 이동별 계산은 깊이가 1 이상이어야 합니다.");
+        }
+    }
+
+    private static class RootMoveTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final ChessGame chessGame;
+        private final int move;
+        private final int depth;
+
+        private RootMoveTask(ChessGame chessGame, int move, int depth) {
+            this.chessGame = chessGame;
+            this.move = move;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            chessGame.makeMove(move);
+            return new Perft(depth).count(chessGame, depth);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package chess.perft;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.util.FenRenderer;
+import chess.util.MoveRenderer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class PerftApplication {
+    private static final String OPTION_PREFIX = "--";
+    private static final String DIVIDE_OPTION = "--divide";
+    private static final String PARALLEL_OPTION = "--parallel";
+    private static final String FEN_OPTION = "--fen=";
+    private static final int DEFAULT_DEPTH = 5;
+    private static final String USAGE = "사용법: perft [깊이] [--divide] [--parallel] [--fen=<FEN>]";
+
+    public static void main(String[] args) {
+        List<String> arguments = List.of(args);
+        boolean divide = arguments.contains(DIVIDE_OPTION);
+        boolean parallel = arguments.contains(PARALLEL_OPTION);
+
+        try {
+            int depth = findDepth(arguments, divide || parallel);
+            ChessGame chessGame = FenRenderer.render(new RoomName("perft"), findFen(arguments));
+            long startTime = System.nanoTime();
+            long nodes = run(chessGame, depth, divide, parallel);
+            long elapsedNanos = System.nanoTime() - startTime;
+
+            printResult(depth, nodes, elapsedNanos);
+        } catch (IllegalArgumentException e) {
+            System.err.println("[ERROR] : " + e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+    }
+
+    private static int findDepth(List<String> arguments, boolean perRootMove) {
+        int depth = arguments.stream()
+                .filter(argument -> !argument.startsWith(OPTION_PREFIX))
+                .findFirst()
+                .map(PerftApplication::parseDepth)
+                .orElse(DEFAULT_DEPTH);
+
+        if (depth < 0) {
+            throw new IllegalArgumentException("깊이는 0 이상이어야 합니다: " + depth);
+        }
+
+        if (perRootMove && depth < 1) {
+            throw new IllegalArgumentException("--divide와 --parallel은 깊이가 1 이상이어야 합니다.");
+        }
+
+        return depth;
+    }
+
+    private static int parseDepth(String argument) {
+        try {
+            return Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("깊이는 정수여야 합니다: " + argument);
+        }
+    }
+
+    private static String findFen(List<String> arguments) {
+        return arguments.stream()
+                .filter(argument -> argument.startsWith(FEN_OPTION))
+                .findFirst()
+                .map(argument -> argument.substring(FEN_OPTION.length()))
+                .orElse(FenRenderer.INITIAL_POSITION);
+    }
+
+    private static long run(ChessGame chessGame, int depth, boolean divide, boolean parallel) {
+        if (!divide && !parallel) {
+            return new Perft(depth).count(chessGame, depth);
+        }
+
+        Map<Integer, Long> nodesPerMove = divide(chessGame, depth, parallel);
+        if (divide) {
+            nodesPerMove.forEach((move, nodes) -> System.out.println(MoveRenderer.render(move) + ": " + nodes));
+            System.out.println();
+        }
+
+        return nodesPerMove.values().stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    private static Map<Integer, Long> divide(ChessGame chessGame, int depth, boolean parallel) {
+        if (parallel) {
+            return Perft.divideInParallel(chessGame, depth, ForkJoinPool.commonPool());
+        }
+
+        return new Perft(depth).divide(chessGame, depth);
+    }
+
+    private static void printResult(int depth, long nodes, long elapsedNanos) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long nodesPerSecond = nodes * TimeUnit.SECONDS.toNanos(1) / Math.max(elapsedNanos, 1);
+
+        System.out.println(String.format("depth %d : %d nodes", depth, nodes));
+        System.out.println(String.format("time : %d ms (%d nodes/s)", elapsedMillis, nodesPerSecond));
+    }
+}
@@ -0,0 +1,179 @@
+package chess.server;
+
+import chess.domain.RoomName;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+public class ChessServer implements AutoCloseable {
+    private static final String JOIN = "join";
+    private static final String QUIT = "quit";
+    private static final String ERROR = "ERROR ";
+    private static final String BYE = "BYE";
+    private static final String COMMAND_DELIMITER = " ";
+
+    private final ServerSocket serverSocket;
+    private final RoomCommandHandler commandHandler;
+    private final RoomRegistry roomRegistry;
+    private final ExecutorService connectionExecutor;
+    private final Set<Socket> connections;
+    private final Thread acceptor;
+
+    public ChessServer(int port, RoomCommandHandler commandHandler, RoomRegistry roomRegistry,
+                       ExecutorService connectionExecutor) {
+        try {
+            this.serverSocket = new ServerSocket(port);
+        } catch (IOException e) {
+            throw new UncheckedIOException("서버 소켓을 열 수 없습니다.", e);
+        }
+        this.commandHandler = commandHandler;
+        this.roomRegistry = roomRegistry;
+        this.connectionExecutor = connectionExecutor;
+        this.connections = ConcurrentHashMap.newKeySet();
+        this.acceptor = new Thread(this::acceptConnections, "chess-server-acceptor");
+    }
+
+    public void start() {
+        acceptor.start();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+
+                connections.add(socket);
+                connectionExecutor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             BufferedReader reader = new BufferedReader(
+                     new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            new Connection(reader, writer).run();
+        } catch (IOException e) {
+            if (!socket.isClosed()) {
+                e.printStackTrace();
+            }
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getRoomCount() {
+        return roomRegistry.getResidentCount();
+    }
+
+    @Override
+    public void close() {
+        try {
+            serverSocket.close();
+            for (Socket connection : connections) {
+                connection.close();
+            }
+            acceptor.join();
+        } catch (IOException e) {
+            e.printStackTrace();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        connectionExecutor.shutdown();
+        roomRegistry.close();
+    }
+
+    private class Connection {
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+        private RoomName roomName;
+
+        private Connection(BufferedReader reader, PrintWriter writer) {
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        private void run() throws IOException {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                List<String> command = Arrays.asList(line.trim().split(COMMAND_DELIMITER));
+
+                if (QUIT.equals(command.get(0))) {
+                    writer.println(BYE);
+                    return;
+                }
+                writer.println(respond(command));
+            }
+        }
+
+        private String respond(List<String> command) {
+            try {
+                if (JOIN.equals(command.get(0))) {
+                    return join(command);
+                }
+                if (commandHandler.isQuery(command)) {
+                    return query(command);
+                }
+                return roomRegistry.ask(findRoomName(), chessGame -> commandHandler.handle(chessGame, command)).join();
+            } catch (CompletionException e) {
+                return error(e.getCause());
+            } catch (RuntimeException e) {
+                return error(e);
+            }
+        }
+
+        private String join(List<String> command) {
+            if (command.size() != 2) {
+                throw new IllegalArgumentException("join 방이름 형식이어야 합니다.");
+            }
+
+            roomName = new RoomName(command.get(1));
+            return roomRegistry.ask(roomName, chessGame -> commandHandler.handle(chessGame, List.of("board"))).join();
+        }
+
+        private String query(List<String> command) {
+            RoomName currentRoomName = findRoomName();
+
+            return roomRegistry.findPosition(currentRoomName)
+                    .map(position -> commandHandler.query(position, command))
+                    .orElseGet(() -> roomRegistry.ask(currentRoomName,
+                            chessGame -> commandHandler.handle(chessGame, command)).join());
+        }
+
+        private RoomName findRoomName() {
+            return Optional.ofNullable(roomName)
+                    .orElseThrow(() -> new IllegalArgumentException("먼저 join 명령으로 방에 입장해야 합니다."));
+        }
+
+        private String error(Throwable e) {
+            if (!(e instanceof IllegalArgumentException) || e.getMessage() == null) {
+                return ERROR + "잘못된 요청입니다.";
+            }
+
+            return ERROR + e.getMessage();
+        }
+    }
+}
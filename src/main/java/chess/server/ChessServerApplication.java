@@ -0,0 +1,90 @@
+package chess.server;
+
+import chess.dao.ConnectionPool;
+import chess.dao.DatabaseProperties;
+import chess.dao.GameRepository;
+import chess.dao.MoveJournal;
+import chess.dao.MoveLogDao;
+import chess.dao.WriteBehindQueue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class ChessServerApplication {
+    private static final String OPTION_PREFIX = "--";
+    private static final String THREAD_MODE_OPTION = "--threads=";
+    private static final String MAX_ROOMS_OPTION = "--max-rooms=";
+    private static final String ROOM_IDLE_OPTION = "--room-idle-seconds=";
+    private static final int DEFAULT_PORT = 7000;
+    private static final int DEFAULT_MAX_ROOMS = 1024;
+    private static final int DEFAULT_ROOM_IDLE_SECONDS = 300;
+    private static final Duration SWEEP_INTERVAL = Duration.ofSeconds(10);
+
+    public static void main(String[] args) throws InterruptedException {
+        List<String> arguments = List.of(args);
+        int port = findPort(arguments);
+        SessionThreadMode threadMode = findThreadMode(arguments);
+        DatabaseProperties databaseProperties = DatabaseProperties.load();
+        Optional<ConnectionPool> connectionPool = databaseProperties.createConnectionPoolIfJdbc();
+        GameRepository gameRepository = connectionPool.map(databaseProperties::createGameRepository)
+                .orElseGet(databaseProperties::createGameRepository);
+        WriteBehindQueue writeBehindQueue = databaseProperties.createWriteBehindQueue(gameRepository);
+        Optional<MoveJournal> moveJournal = connectionPool.map(pool ->
+                new MoveJournal(new MoveLogDao(pool), databaseProperties.getSnapshotInterval()));
+        ExecutorService roomExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        RoomCommandHandler commandHandler = new RoomCommandHandler(gameRepository, writeBehindQueue, moveJournal);
+        RoomRegistry roomRegistry = new RoomRegistry(commandHandler, roomExecutor,
+                findIntOption(arguments, MAX_ROOMS_OPTION, DEFAULT_MAX_ROOMS),
+                Duration.ofSeconds(findIntOption(arguments, ROOM_IDLE_OPTION, DEFAULT_ROOM_IDLE_SECONDS)),
+                SWEEP_INTERVAL);
+        ChessServer chessServer = new ChessServer(port, commandHandler, roomRegistry, threadMode.createExecutor());
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            chessServer.close();
+            System.out.println("> 상주 방: " + roomRegistry.getResidentCount()
+                    + ", 퇴출된 방: " + roomRegistry.getEvictionCount());
+            closeQuietly(writeBehindQueue);
+            moveJournal.ifPresent(ChessServerApplication::closeQuietly);
+            gameRepository.close();
+            connectionPool.ifPresent(ConnectionPool::close);
+        }));
+        chessServer.start();
+        System.out.println("> 체스 서버를 시작합니다. 포트: " + chessServer.getPort() + ", 세션 스레드: " + threadMode);
+        Thread.currentThread().join();
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            System.err.println(e.getMessage());
+        }
+    }
+
+    private static int findPort(List<String> arguments) {
+        return arguments.stream()
+                .filter(argument -> !argument.startsWith(OPTION_PREFIX))
+                .findFirst()
+                .map(Integer::parseInt)
+                .orElse(DEFAULT_PORT);
+    }
+
+    private static int findIntOption(List<String> arguments, String option, int defaultValue) {
+        return arguments.stream()
+                .filter(argument -> argument.startsWith(option))
+                .findFirst()
+                .map(argument -> Integer.parseInt(argument.substring(option.length())))
+                .orElse(defaultValue);
+    }
+
+    private static SessionThreadMode findThreadMode(List<String> arguments) {
+        return arguments.stream()
+                .filter(argument -> argument.startsWith(THREAD_MODE_OPTION))
+                .findFirst()
+                .map(argument -> SessionThreadMode.from(argument.substring(THREAD_MODE_OPTION.length())))
+                .orElse(SessionThreadMode.PLATFORM);
+    }
+}
@@ -0,0 +1,120 @@
+package chess.server;
+
+import chess.domain.ChessGame;
+import chess.domain.Position;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class RoomActor {
+    private static final int THROUGHPUT = 64;
+
+    private final Supplier<ChessGame> gameLoader;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox;
+    private final AtomicBoolean scheduled;
+    private volatile ChessGame chessGame;
+    private volatile boolean retired;
+
+    public RoomActor(Supplier<ChessGame> gameLoader, Executor executor) {
+        this.gameLoader = gameLoader;
+        this.executor = executor;
+        this.mailbox = new ConcurrentLinkedQueue<>();
+        this.scheduled = new AtomicBoolean();
+    }
+
+    public <T> CompletableFuture<T> ask(Function<ChessGame, T> message) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        mailbox.add(() -> handle(message, result));
+        schedule();
+        return result;
+    }
+
+    public CompletableFuture<Boolean> retire(Consumer<ChessGame> persister) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        mailbox.add(() -> handleRetire(persister, result));
+        schedule();
+        return result;
+    }
+
+    private void handleRetire(Consumer<ChessGame> persister, CompletableFuture<Boolean> result) {
+        if (retired) {
+            result.complete(false);
+            return;
+        }
+
+        try {
+            if (chessGame != null) {
+                persister.accept(chessGame);
+            }
+            retired = true;
+            chessGame = null;
+            result.complete(true);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    public boolean isRetired() {
+        return retired;
+    }
+
+    private <T> void handle(Function<ChessGame, T> message, CompletableFuture<T> result) {
+        if (retired) {
+            result.cancel(false);
+            return;
+        }
+
+        try {
+            result.complete(message.apply(getChessGame()));
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    public Optional<Position> findPosition() {
+        ChessGame loadedGame = chessGame;
+
+        if (retired || loadedGame == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(loadedGame.getPosition());
+    }
+
+    private ChessGame getChessGame() {
+        if (chessGame == null) {
+            chessGame = gameLoader.get();
+        }
+
+        return chessGame;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        Runnable message;
+
+        for (int processed = 0; processed < THROUGHPUT && (message = mailbox.poll()) != null; processed++) {
+            message.run();
+        }
+
+        scheduled.set(false);
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package chess.server;
+
+import chess.dao.GameRepository;
+import chess.dao.MoveJournal;
+import chess.dao.WriteBehindQueue;
+import chess.domain.ChessGame;
+import chess.domain.Position;
+import chess.domain.RoomName;
+import chess.domain.board.Board;
+import chess.domain.board.Square;
+import chess.domain.move.Move;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+import chess.util.FenRenderer;
+import chess.util.PieceRenderer;
+import chess.util.SquareRenderer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public class RoomCommandHandler {
+    private static final String OK = "OK ";
+    private static final String STATUS = "STATUS ";
+    private static final String MOVE = "move";
+    private static final String BOARD = "board";
+    private static final String SCORE = "status";
+    private static final int SQUARE_LENGTH = 2;
+    private static final Set<PieceType> PROMOTION_TYPES =
+            Set.of(PieceType.QUEEN, PieceType.ROOK, PieceType.BISHOP, PieceType.KNIGHT);
+
+    private final GameRepository gameRepository;
+    private final WriteBehindQueue writeBehindQueue;
+    private final Optional<MoveJournal> moveJournal;
+
+    public RoomCommandHandler(GameRepository gameRepository, WriteBehindQueue writeBehindQueue) {
+        this(gameRepository, writeBehindQueue, Optional.empty());
+    }
+
+    public RoomCommandHandler(GameRepository gameRepository, WriteBehindQueue writeBehindQueue,
+                              Optional<MoveJournal> moveJournal) {
+        this.gameRepository = gameRepository;
+        this.writeBehindQueue = writeBehindQueue;
+        this.moveJournal = moveJournal;
+    }
+
+    public ChessGame load(RoomName roomName) {
+        ChessGame chessGame = restore(roomName)
+                .orElseGet(() -> gameRepository.loadGame(roomName));
+
+        moveJournal.ifPresent(journal -> journal.start(chessGame));
+        return chessGame;
+    }
+
+    private Optional<ChessGame> restore(RoomName roomName) {
+        try {
+            return moveJournal.flatMap(journal -> journal.restore(roomName));
+        } catch (RuntimeException e) {
+            System.err.println("기보를 복원하지 못해 마지막으로 저장된 게임을 불러옵니다: " + roomName.getRoomName());
+            return Optional.empty();
+        }
+    }
+
+    public String handle(ChessGame chessGame, List<String> command) {
+        if (MOVE.equals(command.get(0))) {
+            return move(chessGame, command);
+        }
+
+        return query(chessGame.getPosition(), command);
+    }
+
+    public boolean isQuery(List<String> command) {
+        String mainCommand = command.get(0);
+
+        return BOARD.equals(mainCommand) || SCORE.equals(mainCommand);
+    }
+
+    public String query(Position position, List<String> command) {
+        String mainCommand = command.get(0);
+
+        if (BOARD.equals(mainCommand)) {
+            return OK + FenRenderer.render(position);
+        }
+
+        if (SCORE.equals(mainCommand)) {
+            return STATUS + position.calculateScoreOf(Camp.WHITE) + " " + position.calculateScoreOf(Camp.BLACK)
+                    + " " + position.getStatus();
+        }
+
+        throw new IllegalArgumentException("알 수 없는 명령입니다: " + mainCommand);
+    }
+
+    private String move(ChessGame chessGame, List<String> command) {
+        validateMoveCommand(chessGame, command);
+        Square source = SquareRenderer.render(command.get(1));
+        Square target = SquareRenderer.render(command.get(2));
+        PieceType promotion = findPromotion(command);
+
+        if (chessGame.isPromotionMove(source, target)) {
+            chessGame.move(source, target, promotion);
+            record(chessGame, Move.of(source.getIndex(), target.getIndex(), promotion));
+        } else {
+            chessGame.move(source, target);
+            record(chessGame, Move.of(source, target));
+        }
+        saveGameState(chessGame);
+
+        return OK + FenRenderer.render(chessGame.getPosition());
+    }
+
+    private void record(ChessGame chessGame, int move) {
+        moveJournal.ifPresent(journal -> journal.record(chessGame, move));
+    }
+
+    private void validateMoveCommand(ChessGame chessGame, List<String> command) {
+        if (chessGame.isGameOver()) {
+            throw new IllegalArgumentException("이미 종료된 게임입니다.");
+        }
+
+        if (command.size() < 3 || command.size() > 4
+                || command.get(1).length() != SQUARE_LENGTH || command.get(2).length() != SQUARE_LENGTH) {
+            throw new IllegalArgumentException("move source위치 target위치 [승급 기물] 형식이어야 합니다.");
+        }
+    }
+
+    private PieceType findPromotion(List<String> command) {
+        if (command.size() < 4) {
+            return PieceType.QUEEN;
+        }
+
+        PieceType pieceType = PieceRenderer.render(command.get(3)).getPieceType();
+        if (!PROMOTION_TYPES.contains(pieceType)) {
+            throw new IllegalArgumentException("승급할 수 없는 기물입니다.");
+        }
+
+        return pieceType;
+    }
+
+    public void persist(ChessGame chessGame) {
+        if (chessGame.getChessboard().getDirtySquares() != 0) {
+            saveGameState(chessGame);
+        }
+        writeBehindQueue.flush(chessGame.getRoomName());
+        clearJournal(chessGame.getRoomName());
+    }
+
+    private void clearJournal(String roomName) {
+        moveJournal.ifPresent(journal -> {
+            journal.clear(roomName);
+            journal.flush();
+        });
+    }
+
+    private void saveGameState(ChessGame chessGame) {
+        if (chessGame.isGameOver()) {
+            writeBehindQueue.delete(chessGame.getRoomName());
+            moveJournal.ifPresent(journal -> journal.clear(chessGame.getRoomName()));
+            return;
+        }
+
+        Board board = chessGame.getChessboard();
+        GameRoomDto gameRoomDto = new GameRoomDto(chessGame.getRoomName(), chessGame.isWhiteTurn());
+        List<BoardDto> changedBoardDto = BoardRenderer.render(board, board.getDirtySquares());
+
+        writeBehindQueue.update(gameRoomDto, chessGame.getPosition(), changedBoardDto);
+        board.clearDirtySquares();
+    }
+}
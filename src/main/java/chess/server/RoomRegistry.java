@@ -0,0 +1,290 @@
+package chess.server;
+
+import chess.domain.ChessGame;
+import chess.domain.Position;
+import chess.domain.RoomName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+public class RoomRegistry implements AutoCloseable {
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final RoomCommandHandler commandHandler;
+    private final ExecutorService roomExecutor;
+    private final int maxResidentCount;
+    private final long maxIdleNanos;
+    private final long sweepIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<RoomName, Room> rooms;
+    private final AtomicLong evictionCount;
+    private final ReentrantLock lock;
+    private final Condition closeRequested;
+    private final Thread sweeper;
+    private long lastSweepNanos;
+    private long lastSweepEvictionCount;
+    private volatile double evictionRate;
+    private boolean closed;
+
+    public RoomRegistry(RoomCommandHandler commandHandler, ExecutorService roomExecutor, int maxResidentCount,
+                        Duration maxIdle, Duration sweepInterval) {
+        this(commandHandler, roomExecutor, maxResidentCount, maxIdle, sweepInterval, System::nanoTime);
+    }
+
+    RoomRegistry(RoomCommandHandler commandHandler, ExecutorService roomExecutor, int maxResidentCount,
+                 Duration maxIdle, Duration sweepInterval, LongSupplier nanoClock) {
+        validate(maxResidentCount, maxIdle, sweepInterval);
+
+        this.commandHandler = commandHandler;
+        this.roomExecutor = roomExecutor;
+        this.maxResidentCount = maxResidentCount;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.sweepIntervalNanos = sweepInterval.toNanos();
+        this.nanoClock = nanoClock;
+        this.rooms = new ConcurrentHashMap<>();
+        this.evictionCount = new AtomicLong();
+        this.lock = new ReentrantLock();
+        this.closeRequested = lock.newCondition();
+        this.lastSweepNanos = nanoClock.getAsLong();
+        this.sweeper = new Thread(this::runSweeper, "room-sweeper");
+        this.sweeper.setDaemon(true);
+        this.sweeper.start();
+    }
+
+    private void validate(int maxResidentCount, Duration maxIdle, Duration sweepInterval) {
+        if (maxResidentCount < 1) {
+            throw new IllegalArgumentException("최대 상주 방 개수는 1 이상이어야 합니다.");
+        }
+
+        if (maxIdle.isNegative() || maxIdle.isZero() || sweepInterval.isNegative() || sweepInterval.isZero()) {
+            throw new IllegalArgumentException("유휴 시간과 정리 간격은 0보다 커야 합니다.");
+        }
+    }
+
+    public <T> CompletableFuture<T> ask(RoomName roomName, Function<ChessGame, T> message) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+
+        send(roomName, message, result);
+        return result;
+    }
+
+    private <T> void send(RoomName roomName, Function<ChessGame, T> message, CompletableFuture<T> result) {
+        CompletableFuture<T> reply = getRoom(roomName).actor.ask(message);
+
+        reply.whenComplete((value, e) -> {
+            if (reply.isCancelled()) {
+                send(roomName, message, result);
+                return;
+            }
+
+            if (e != null) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            result.complete(value);
+        });
+    }
+
+    public Optional<Position> findPosition(RoomName roomName) {
+        return getRoom(roomName).actor.findPosition();
+    }
+
+    private Room getRoom(RoomName roomName) {
+        long now = nanoClock.getAsLong();
+        Room room = rooms.get(roomName);
+
+        if (room != null && !room.actor.isRetired()) {
+            room.touch(now);
+            return room;
+        }
+
+        Room created = new Room(new RoomActor(() -> commandHandler.load(roomName), roomExecutor), now);
+        Room resident = rooms.compute(roomName, (name, current) -> {
+            if (current == null || current.actor.isRetired()) {
+                return created;
+            }
+
+            return current;
+        });
+
+        resident.touch(now);
+        if (resident == created && rooms.size() > maxResidentCount) {
+            evictOverflow();
+        }
+        return resident;
+    }
+
+    public CompletableFuture<Integer> evictIdleRooms() {
+        long now = nanoClock.getAsLong();
+        List<CompletableFuture<Boolean>> evictions = new ArrayList<>();
+
+        for (Map.Entry<RoomName, Room> entry : rooms.entrySet()) {
+            if (now - entry.getValue().lastActivityNanos >= maxIdleNanos) {
+                evict(entry.getKey(), entry.getValue()).ifPresent(evictions::add);
+            }
+        }
+        evictions.addAll(evictOverflow());
+
+        return CompletableFuture.allOf(evictions.toArray(CompletableFuture<?>[]::new))
+                .thenApply(ignored -> {
+                    updateEvictionRate(now);
+                    return (int) evictions.stream()
+                            .filter(CompletableFuture::join)
+                            .count();
+                });
+    }
+
+    private List<CompletableFuture<Boolean>> evictOverflow() {
+        List<EvictionCandidate> candidates = rooms.entrySet().stream()
+                .filter(entry -> !entry.getValue().evicting.get())
+                .map(entry -> new EvictionCandidate(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingLong(candidate -> candidate.lastActivityNanos))
+                .collect(Collectors.toList());
+        List<CompletableFuture<Boolean>> evictions = new ArrayList<>();
+
+        for (int i = 0, excess = candidates.size() - maxResidentCount; i < excess; i++) {
+            EvictionCandidate candidate = candidates.get(i);
+            evict(candidate.roomName, candidate.room).ifPresent(evictions::add);
+        }
+
+        return evictions;
+    }
+
+    private Optional<CompletableFuture<Boolean>> evict(RoomName roomName, Room room) {
+        if (!room.evicting.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(room.actor.retire(commandHandler::persist)
+                .handle((retired, e) -> {
+                    if (e != null) {
+                        e.printStackTrace();
+                        room.evicting.set(false);
+                        return false;
+                    }
+
+                    rooms.remove(roomName, room);
+                    if (retired) {
+                        evictionCount.incrementAndGet();
+                    }
+                    return retired;
+                }));
+    }
+
+    private void updateEvictionRate(long now) {
+        lock.lock();
+        try {
+            long evictions = evictionCount.get();
+            long elapsedNanos = now - lastSweepNanos;
+
+            if (elapsedNanos > 0) {
+                evictionRate = (evictions - lastSweepEvictionCount) * NANOS_PER_SECOND / elapsedNanos;
+                lastSweepNanos = now;
+                lastSweepEvictionCount = evictions;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runSweeper() {
+        while (awaitSweep()) {
+            try {
+                evictIdleRooms();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private boolean awaitSweep() {
+        lock.lock();
+        try {
+            long remainingNanos = sweepIntervalNanos;
+
+            while (!closed && remainingNanos > 0) {
+                remainingNanos = closeRequested.awaitNanos(remainingNanos);
+            }
+            return !closed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getResidentCount() {
+        return rooms.size();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public double getEvictionRate() {
+        return evictionRate;
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            closeRequested.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            sweeper.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        roomExecutor.shutdown();
+    }
+
+    private static class Room {
+        private final RoomActor actor;
+        private final AtomicBoolean evicting;
+        private volatile long lastActivityNanos;
+
+        private Room(RoomActor actor, long lastActivityNanos) {
+            this.actor = actor;
+            this.evicting = new AtomicBoolean();
+            this.lastActivityNanos = lastActivityNanos;
+        }
+
+        private void touch(long now) {
+            lastActivityNanos = now;
+        }
+    }
+
+    private static class EvictionCandidate {
+        private final RoomName roomName;
+        private final Room room;
+        private final long lastActivityNanos;
+
+        private EvictionCandidate(RoomName roomName, Room room) {
+            this.roomName = roomName;
+            this.room = room;
+            this.lastActivityNanos = room.lastActivityNanos;
+        }
+    }
+}
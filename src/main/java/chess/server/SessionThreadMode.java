@@ -0,0 +1,60 @@
+package chess.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+public enum SessionThreadMode {
+    PLATFORM("platform", Executors::newCachedThreadPool),
+    VIRTUAL("virtual", SessionThreadMode::newVirtualThreadPerTaskExecutor);
+
+    private static final String VIRTUAL_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+    private final String value;
+    private final Supplier<ExecutorService> executorFactory;
+
+    SessionThreadMode(String value, Supplier<ExecutorService> executorFactory) {
+        this.value = value;
+        this.executorFactory = executorFactory;
+    }
+
+    public static SessionThreadMode from(String value) {
+        return Arrays.stream(values())
+                .filter(mode -> mode.value.equals(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("세션 스레드 모드는 platform, virtual 중 하나여야 합니다."));
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return findVirtualExecutorFactory() != null;
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        Method factory = findVirtualExecutorFactory();
+
+        if (factory == null) {
+            throw new IllegalStateException("가상 스레드는 Java 21 이상에서만 사용할 수 있습니다.");
+        }
+
+        try {
+            return (ExecutorService) factory.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("가상 스레드 실행기를 만들 수 없습니다.", e);
+        }
+    }
+
+    private static Method findVirtualExecutorFactory() {
+        try {
+            return Executors.class.getMethod(VIRTUAL_EXECUTOR_FACTORY);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public ExecutorService createExecutor() {
+        return executorFactory.get();
+    }
+}
@@ -0,0 +1,102 @@
+package chess.util;
+
+import chess.domain.Position;
+import chess.domain.board.Board;
+import chess.domain.board.Square;
+import chess.domain.piece.Camp;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+
+import java.util.function.Function;
+
+public class BoardCodec {
+    public static final int ENCODED_LENGTH = 34;
+    private static final int SQUARE_COUNT = 64;
+    private static final int TURN_INDEX = 32;
+    private static final int VERSION_INDEX = 33;
+    private static final byte VERSION = 1;
+    private static final byte WHITE_TURN = 1;
+    private static final int EMPTY_CODE = 0;
+    private static final int WHITE_OFFSET = 1;
+    private static final int BLACK_OFFSET = 9;
+    private static final int NIBBLE_BITS = 4;
+    private static final int NIBBLE_MASK = 0xF;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    private BoardCodec() {
+    }
+
+    public static byte[] encode(Board board, boolean isWhiteTurn) {
+        return encode(board::getPieceAt, isWhiteTurn);
+    }
+
+    public static byte[] encode(Position position) {
+        return encode(position::getPieceAt, position.isWhiteTurn());
+    }
+
+    private static byte[] encode(Function<Square, Piece> pieceAt, boolean isWhiteTurn) {
+        byte[] encoded = new byte[ENCODED_LENGTH];
+
+        for (int index = 0; index < SQUARE_COUNT; index++) {
+            int code = encodePiece(pieceAt.apply(Square.getInstanceOf(index)));
+            encoded[index / 2] |= (byte) (code << (index % 2 * NIBBLE_BITS));
+        }
+        if (isWhiteTurn) {
+            encoded[TURN_INDEX] = WHITE_TURN;
+        }
+        encoded[VERSION_INDEX] = VERSION;
+
+        return encoded;
+    }
+
+    private static int encodePiece(Piece piece) {
+        PieceType pieceType = piece.getPieceType();
+
+        if (pieceType == PieceType.EMPTY) {
+            return EMPTY_CODE;
+        }
+
+        if (piece.isWhite()) {
+            return WHITE_OFFSET + pieceType.ordinal();
+        }
+
+        return BLACK_OFFSET + pieceType.ordinal();
+    }
+
+    public static void decode(byte[] encoded, Board board) {
+        validate(encoded);
+
+        for (int index = 0; index < SQUARE_COUNT; index++) {
+            int code = (encoded[index / 2] >> (index % 2 * NIBBLE_BITS)) & NIBBLE_MASK;
+            board.putPiece(Square.getInstanceOf(index), decodePiece(code));
+        }
+    }
+
+    private static Piece decodePiece(int code) {
+        if (code == EMPTY_CODE) {
+            return PieceType.EMPTY.createPiece(Camp.NONE);
+        }
+
+        if (code >= BLACK_OFFSET && code < BLACK_OFFSET + PieceType.EMPTY.ordinal()) {
+            return PIECE_TYPES[code - BLACK_OFFSET].createPiece(Camp.BLACK);
+        }
+
+        if (code >= WHITE_OFFSET && code < WHITE_OFFSET + PieceType.EMPTY.ordinal()) {
+            return PIECE_TYPES[code - WHITE_OFFSET].createPiece(Camp.WHITE);
+        }
+
+        throw new IllegalArgumentException("올바르지 않은 기물 코드입니다: " + code);
+    }
+
+    public static boolean isWhiteTurn(byte[] encoded) {
+        validate(encoded);
+
+        return encoded[TURN_INDEX] == WHITE_TURN;
+    }
+
+    private static void validate(byte[] encoded) {
+        if (encoded.length != ENCODED_LENGTH || encoded[VERSION_INDEX] != VERSION) {
+            throw new IllegalArgumentException("올바르지 않은 보드 인코딩입니다.");
+        }
+    }
+}
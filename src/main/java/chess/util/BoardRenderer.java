@@ -0,0 +1,68 @@
+package chess.util;
+
+import chess.domain.Position;
+import chess.domain.board.Board;
+import chess.domain.board.Square;
+import chess.domain.piece.Piece;
+import chess.dto.BoardDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BoardRenderer {
+    private static final int SQUARE_COUNT = 64;
+
+    private BoardRenderer() {
+    }
+
+    public static List<BoardDto> render(Board board) {
+        List<BoardDto> boardDtoList = new ArrayList<>();
+
+        for (Square square : board.getBoardMap().keySet()) {
+            String source = SquareRenderer.render(square);
+            String piece = PieceRenderer.render(board.getPieceAt(square));
+
+            boardDtoList.add(new BoardDto(source, piece));
+        }
+
+        return boardDtoList;
+    }
+
+    public static List<BoardDto> render(Position position) {
+        List<BoardDto> boardDtoList = new ArrayList<>();
+
+        for (int index = 0; index < SQUARE_COUNT; index++) {
+            Square square = Square.getInstanceOf(index);
+            String source = SquareRenderer.render(square);
+            String piece = PieceRenderer.render(position.getPieceAt(square));
+
+            boardDtoList.add(new BoardDto(source, piece));
+        }
+
+        return boardDtoList;
+    }
+
+    public static List<BoardDto> render(Board board, long squares) {
+        List<BoardDto> boardDtoList = new ArrayList<>();
+
+        while (squares != 0) {
+            Square square = Square.getInstanceOf(Long.numberOfTrailingZeros(squares));
+            String source = SquareRenderer.render(square);
+            String piece = PieceRenderer.render(board.getPieceAt(square));
+
+            boardDtoList.add(new BoardDto(source, piece));
+            squares &= squares - 1;
+        }
+
+        return boardDtoList;
+    }
+
+    public static void putPieces(Board board, List<BoardDto> boardDtoList) {
+        for (BoardDto boardDto : boardDtoList) {
+            Square source = SquareRenderer.render(boardDto.getSource());
+            Piece piece = PieceRenderer.render(boardDto.getPiece());
+
+            board.putPiece(source, piece);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package chess.util;
+
+import chess.domain.ChessGame;
+import chess.domain.Position;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.domain.board.Square;
+import chess.domain.piece.Piece;
+import chess.domain.piece.PieceType;
+
+import java.util.function.Function;
+
+public class FenRenderer {
+    public static final String INITIAL_POSITION = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w - - 0 1";
+
+    private static final int SQUARE_COUNT = 64;
+    private static final int LINE_LENGTH = 8;
+    private static final String FIELD_DELIMITER = " ";
+    private static final char RANK_DELIMITER = '/';
+    private static final String WHITE_TURN = "w";
+    private static final String BLACK_TURN = "b";
+
+    private FenRenderer() {
+    }
+
+    public static ChessGame render(RoomName roomName, String fen) {
+        String[] fields = fen.trim().split(FIELD_DELIMITER);
+        ChessGame chessGame = new ChessGame(roomName, renderBoard(fields[0]));
+
+        if (fields.length > 1 && fields[1].equals(BLACK_TURN)) {
+            chessGame.passTurn();
+        }
+
+        return chessGame;
+    }
+
+    private static Board renderBoard(String placement) {
+        Board chessboard = new BitboardChessboard();
+        int index = 0;
+
+        for (char symbol : placement.toCharArray()) {
+            index = putSymbol(chessboard, index, symbol);
+        }
+
+        if (index != SQUARE_COUNT) {
+            throw new IllegalArgumentException("잘못된 FEN 기물 배치입니다.");
+        }
+
+        return chessboard;
+    }
+
+    private static int putSymbol(Board chessboard, int index, char symbol) {
+        if (symbol == RANK_DELIMITER) {
+            return index;
+        }
+
+        if (Character.isDigit(symbol)) {
+            return index + Character.digit(symbol, 10);
+        }
+
+        if (index >= SQUARE_COUNT) {
+            throw new IllegalArgumentException("잘못된 FEN 기물 배치입니다.");
+        }
+
+        chessboard.putPiece(Square.getInstanceOf(index), PieceRenderer.render(swapCase(symbol)));
+        return index + 1;
+    }
+
+    public static String render(ChessGame chessGame) {
+        return render(chessGame.getChessboard()::getPieceAt, chessGame.isWhiteTurn());
+    }
+
+    public static String render(Position position) {
+        return render(position::getPieceAt, position.isWhiteTurn());
+    }
+
+    private static String render(Function<Square, Piece> pieceAt, boolean isWhiteTurn) {
+        StringBuilder fen = new StringBuilder();
+
+        for (int row = 0; row < LINE_LENGTH; row++) {
+            if (row != 0) {
+                fen.append(RANK_DELIMITER);
+            }
+            appendRow(fen, pieceAt, row);
+        }
+
+        fen.append(FIELD_DELIMITER).append(renderTurn(isWhiteTurn)).append(" - - 0 1");
+        return fen.toString();
+    }
+
+    private static void appendRow(StringBuilder fen, Function<Square, Piece> pieceAt, int row) {
+        int emptyCount = 0;
+
+        for (int column = 0; column < LINE_LENGTH; column++) {
+            Piece piece = pieceAt.apply(Square.getInstanceOf(row * LINE_LENGTH + column));
+
+            if (piece.getPieceType() == PieceType.EMPTY) {
+                emptyCount++;
+                continue;
+            }
+
+            if (emptyCount != 0) {
+                fen.append(emptyCount);
+                emptyCount = 0;
+            }
+            fen.append(swapCase(PieceRenderer.render(piece).charAt(0)));
+        }
+
+        if (emptyCount != 0) {
+            fen.append(emptyCount);
+        }
+    }
+
+    private static String renderTurn(boolean isWhiteTurn) {
+        if (isWhiteTurn) {
+            return WHITE_TURN;
+        }
+
+        return BLACK_TURN;
+    }
+
+    private static String swapCase(char symbol) {
+        if (Character.isUpperCase(symbol)) {
+            return String.valueOf(Character.toLowerCase(symbol));
+        }
+
+        return String.valueOf(Character.toUpperCase(symbol));
+    }
+}
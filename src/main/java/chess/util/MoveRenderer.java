@@ -0,0 +1,40 @@
+package chess.util;
+
+import chess.domain.move.Move;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+
+public class MoveRenderer {
+    private static final int SQUARE_LENGTH = 2;
+    private static final int MOVE_LENGTH = SQUARE_LENGTH * 2;
+
+    private MoveRenderer() {
+    }
+
+    public static String render(int move) {
+        String rendered = SquareRenderer.render(Move.getSourceSquare(move))
+                + SquareRenderer.render(Move.getTargetSquare(move));
+
+        if (Move.isPromotion(move)) {
+            return rendered + PieceRenderer.render(Move.getPromotion(move).createPiece(Camp.WHITE));
+        }
+
+        return rendered;
+    }
+
+    public static int render(String input) {
+        if (input.length() != MOVE_LENGTH && input.length() != MOVE_LENGTH + 1) {
+            throw new IllegalArgumentException("잘못된 이동 입력입니다.");
+        }
+
+        int source = SquareRenderer.render(input.substring(0, SQUARE_LENGTH)).getIndex();
+        int target = SquareRenderer.render(input.substring(SQUARE_LENGTH, MOVE_LENGTH)).getIndex();
+
+        if (input.length() == MOVE_LENGTH) {
+            return Move.of(source, target);
+        }
+
+        PieceType promotion = PieceRenderer.render(input.substring(MOVE_LENGTH)).getPieceType();
+        return Move.of(source, target, promotion);
+    }
+}
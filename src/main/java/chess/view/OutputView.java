@@ -1,7 +1,8 @@
 package chess.view;
 
 import chess.domain.ChessGame;
-import chess.domain.board.Chessboard;
+import chess.domain.GameStatus;
+import chess.domain.Position;
 import chess.domain.board.File;
 import chess.domain.board.Rank;
 import chess.domain.board.Square;
@@ -37,21 +38,43 @@ public class OutputView {
     }
 
     private void printGameResult(ChessGame chessGame) {
-        if (chessGame.isBothKingAlive()) {
+        if (!chessGame.isGameOver()) {
             return;
         }
 
-        System.out.println(System.lineSeparator() + Message.GAME_FINISH.value);
+        System.out.println(System.lineSeparator() + findFinishMessage(chessGame.getStatus()).value);
         printGameWinner(chessGame);
     }
 
+    private Message findFinishMessage(GameStatus status) {
+        if (status == GameStatus.CHECKMATE) {
+            return Message.CHECKMATE_FINISH;
+        }
+
+        if (status == GameStatus.STALEMATE) {
+            return Message.STALEMATE_FINISH;
+        }
+
+        return Message.GAME_FINISH;
+    }
+
     private void printGameWinner(ChessGame chessGame) {
-        if (chessGame.isWhiteKingAlive()) {
+        Camp winner = chessGame.getWinner();
+
+        if (winner == Camp.WHITE) {
             System.out.println(String.format(Message.GAME_WINNER.value, WHITE));
             return;
         }
 
-        System.out.println(String.format(Message.GAME_WINNER.value, BLACK));
+        if (winner == Camp.BLACK) {
+            System.out.println(String.format(Message.GAME_WINNER.value, BLACK));
+        }
+    }
+
+    public void printCheckMessage(ChessGame chessGame) {
+        if (chessGame.getStatus() == GameStatus.CHECK) {
+            System.out.println(Message.CHECK.value);
+        }
     }
 
     private void printScoreWinnerMessage(double whiteScore, double blackScore) {
@@ -68,18 +91,18 @@ public class OutputView {
         System.out.println(message);
     }
 
-    public void printChessBoard(Chessboard chessboard) {
+    public void printChessBoard(Position position) {
         System.out.println();
         for (Rank rank : Rank.values()) {
-            printRankAt(chessboard, rank);
+            printRankAt(position, rank);
         }
     }
 
-    private void printRankAt(Chessboard chessboard, Rank rank) {
+    private void printRankAt(Position position, Rank rank) {
         StringBuilder stringBuilder = new StringBuilder();
 
         for (File file : File.values()) {
-            Piece piece = chessboard.getPieceAt(Square.getInstanceOf(file, rank));
+            Piece piece = position.getPieceAt(Square.getInstanceOf(file, rank));
             stringBuilder.append(PieceRenderer.render(piece));
         }
 
@@ -93,6 +116,9 @@ public class OutputView {
         MOVE_COMMAND("> 게임 이동 : move source위치 target위치 - 예. move b2 b3"),
         STATUS_COMMAND("> 게임 점수 출력 : status"),
         GAME_FINISH("> King이 죽었기 때문에 게임을 종료합니다."),
+        CHECKMATE_FINISH("> 체크메이트로 게임을 종료합니다."),
+        STALEMATE_FINISH("> 스테일메이트로 게임을 종료합니다. 무승부입니다."),
+        CHECK("> 체크 상태입니다."),
         GAME_WINNER("> %s가 승리하였습니다."),
         SCORE("> %s의 점수는 %.1f입니다."),
         SCORE_WINNER("> %s의 점수가 더 높습니다."),
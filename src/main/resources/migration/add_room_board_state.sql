@@ -0,0 +1 @@
+ALTER TABLE room ADD COLUMN board_state BLOB;
@@ -0,0 +1,2 @@
+ALTER TABLE room ADD COLUMN updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+CREATE INDEX room_updated_at ON room (updated_at);
@@ -0,0 +1,42 @@
+CREATE TABLE IF NOT EXISTS room
+(
+    room_id       INT         NOT NULL AUTO_INCREMENT,
+    room_name     VARCHAR(10) NOT NULL,
+    is_white_turn BOOLEAN     NOT NULL,
+    board_state   BLOB,
+    updated_at    TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (room_id),
+    UNIQUE (room_name),
+    INDEX room_updated_at (updated_at)
+);
+
+CREATE TABLE IF NOT EXISTS board
+(
+    board_id INT        NOT NULL AUTO_INCREMENT,
+    source   VARCHAR(2) NOT NULL,
+    piece    VARCHAR(1) NOT NULL,
+    room_id  INT        NOT NULL,
+    PRIMARY KEY (board_id),
+    UNIQUE (room_id, source),
+    FOREIGN KEY (room_id) REFERENCES room (room_id) ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS move_log
+(
+    move_log_id INT         NOT NULL AUTO_INCREMENT,
+    room_name   VARCHAR(10) NOT NULL,
+    ply         INT         NOT NULL,
+    source      VARCHAR(2)  NOT NULL,
+    target      VARCHAR(2)  NOT NULL,
+    promotion   VARCHAR(1),
+    PRIMARY KEY (move_log_id),
+    UNIQUE (room_name, ply)
+);
+
+CREATE TABLE IF NOT EXISTS snapshot
+(
+    room_name   VARCHAR(10) NOT NULL,
+    ply         INT         NOT NULL,
+    board_state BLOB        NOT NULL,
+    PRIMARY KEY (room_name, ply)
+);
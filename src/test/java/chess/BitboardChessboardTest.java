@@ -0,0 +1,11 @@
+package chess;
+
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+
+class BitboardChessboardTest extends ChessboardTest {
+    @Override
+    Board createBoard() {
+        return new BitboardChessboard();
+    }
+}
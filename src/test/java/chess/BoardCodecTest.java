@@ -0,0 +1,54 @@
+package chess;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.util.BoardCodec;
+import chess.util.FenRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardCodecTest {
+    @ParameterizedTest(name = "보드를 34바이트로 인코딩한 뒤 그대로 복원할 수 있다.")
+    @ValueSource(strings = {
+            FenRenderer.INITIAL_POSITION,
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 b - - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w - - 0 1"
+    })
+    void encodeAndDecodeTest(String fen) {
+        ChessGame chessGame = FenRenderer.render(new RoomName("codec"), fen);
+
+        byte[] encoded = BoardCodec.encode(chessGame.getChessboard(), chessGame.isWhiteTurn());
+        Board decoded = new BitboardChessboard();
+        BoardCodec.decode(encoded, decoded);
+
+        assertThat(encoded).hasSize(BoardCodec.ENCODED_LENGTH);
+        assertThat(decoded.getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(BoardCodec.isWhiteTurn(encoded)).isEqualTo(chessGame.isWhiteTurn());
+    }
+
+    @DisplayName("길이나 버전이 맞지 않는 인코딩은 복원할 수 없다.")
+    @Test
+    void decodeInvalidLengthTest() {
+        assertThatThrownBy(() -> BoardCodec.decode(new byte[BoardCodec.ENCODED_LENGTH - 1], new BitboardChessboard()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("올바르지 않은 보드 인코딩입니다.");
+    }
+
+    @DisplayName("존재하지 않는 기물 코드는 복원할 수 없다.")
+    @Test
+    void decodeInvalidPieceTest() {
+        byte[] encoded = BoardCodec.encode(new BitboardChessboard(), true);
+        encoded[0] = 0x7;
+
+        assertThatThrownBy(() -> BoardCodec.decode(encoded, new BitboardChessboard()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("기물 코드");
+    }
+}
@@ -1,11 +1,15 @@
 package chess;
 
 import chess.domain.ChessGame;
+import chess.domain.GameStatus;
 import chess.domain.RoomName;
-import chess.domain.board.Chessboard;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
 import chess.domain.board.File;
 import chess.domain.board.Rank;
 import chess.domain.board.Square;
+import chess.domain.move.Move;
+import chess.domain.move.MoveList;
 import chess.domain.piece.Camp;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceType;
@@ -23,7 +27,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ChessGameTest {
     private ChessGame chessGame;
-    private Chessboard chessboard;
+    private Board chessboard;
 
     @BeforeEach
     void setup() {
@@ -181,4 +185,81 @@ class ChessGameTest {
                 )
         );
     }
+
+    @DisplayName("이동 후 자신의 King이 공격받게 되는 경우, 이동할 수 없다.")
+    @Test
+    void moveIntoCheckFailTest() {
+        Board board = new BitboardChessboard();
+        board.putPiece(Square.getInstanceOf(File.E, Rank.ONE), PieceType.KING.createPiece(Camp.WHITE));
+        board.putPiece(Square.getInstanceOf(File.E, Rank.TWO), PieceType.ROOK.createPiece(Camp.WHITE));
+        board.putPiece(Square.getInstanceOf(File.E, Rank.EIGHT), PieceType.ROOK.createPiece(Camp.BLACK));
+        board.putPiece(Square.getInstanceOf(File.A, Rank.EIGHT), PieceType.KING.createPiece(Camp.BLACK));
+        ChessGame game = new ChessGame(new RoomName("test"), board);
+
+        assertThatThrownBy(() -> game.move(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.D, Rank.TWO)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("King이 공격받고 피할 수 없는 경우, 체크메이트로 게임이 종료된다.")
+    @Test
+    void checkmateTest() {
+        chessGame.move(Square.getInstanceOf(File.F, Rank.TWO), Square.getInstanceOf(File.F, Rank.THREE));
+        chessGame.move(Square.getInstanceOf(File.E, Rank.SEVEN), Square.getInstanceOf(File.E, Rank.FIVE));
+        chessGame.move(Square.getInstanceOf(File.G, Rank.TWO), Square.getInstanceOf(File.G, Rank.FOUR));
+
+        assertThat(chessGame.getStatus())
+                .isEqualTo(GameStatus.PLAYING);
+
+        chessGame.move(Square.getInstanceOf(File.D, Rank.EIGHT), Square.getInstanceOf(File.H, Rank.FOUR));
+
+        assertThat(chessGame.isCheck())
+                .isTrue();
+        assertThat(chessGame.getStatus())
+                .isEqualTo(GameStatus.CHECKMATE);
+        assertThat(chessGame.getWinner())
+                .isEqualTo(Camp.BLACK);
+    }
+
+    @DisplayName("King이 공격받지 않지만 이동할 수 있는 수가 없는 경우, 스테일메이트로 게임이 종료된다.")
+    @Test
+    void stalemateTest() {
+        Board board = new BitboardChessboard();
+        board.putPiece(Square.getInstanceOf(File.H, Rank.EIGHT), PieceType.KING.createPiece(Camp.BLACK));
+        board.putPiece(Square.getInstanceOf(File.G, Rank.SIX), PieceType.QUEEN.createPiece(Camp.WHITE));
+        board.putPiece(Square.getInstanceOf(File.F, Rank.SEVEN), PieceType.KING.createPiece(Camp.WHITE));
+        ChessGame game = new ChessGame(new RoomName("test"), board);
+        game.passTurn();
+
+        assertThat(game.getStatus())
+                .isEqualTo(GameStatus.STALEMATE);
+        assertThat(game.getWinner())
+                .isEqualTo(Camp.NONE);
+    }
+
+    @DisplayName("검증 없이 수를 두고 되돌리면 이전 상태로 돌아간다.")
+    @Test
+    void makeAndUnmakeMoveTest() {
+        Square source = Square.getInstanceOf(File.B, Rank.SEVEN);
+        Square target = Square.getInstanceOf(File.A, Rank.EIGHT);
+        chessboard.swapPiece(Square.getInstanceOf(File.B, Rank.TWO), source);
+        int promotion = Move.of(source.getIndex(), target.getIndex(), PieceType.QUEEN);
+
+        chessGame.makeMove(promotion);
+
+        assertThat(chessboard.getPieceAt(target))
+                .isEqualTo(PieceType.QUEEN.createPiece(Camp.WHITE));
+        assertThat(chessGame.isWhiteTurn())
+                .isFalse();
+
+        chessGame.unmakeMove();
+
+        assertThat(chessboard.getPieceAt(source))
+                .isEqualTo(PieceType.PAWN.createPiece(Camp.WHITE));
+        assertThat(chessboard.getPieceAt(target))
+                .isEqualTo(PieceType.ROOK.createPiece(Camp.BLACK));
+        assertThat(chessGame.isWhiteTurn())
+                .isTrue();
+        assertThat(chessGame.generateLegalMoves(new MoveList()).contains(promotion))
+                .isTrue();
+    }
 }
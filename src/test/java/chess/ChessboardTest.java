@@ -1,6 +1,7 @@
 package chess;
 
 import chess.domain.BoardInitializer;
+import chess.domain.board.Board;
 import chess.domain.board.Chessboard;
 import chess.domain.board.File;
 import chess.domain.board.Rank;
@@ -8,7 +9,6 @@ import chess.domain.board.Square;
 import chess.domain.piece.Camp;
 import chess.domain.piece.Piece;
 import chess.domain.piece.PieceType;
-import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,20 +23,22 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 
 class ChessboardTest {
-    private Chessboard chessboard;
+    private Board chessboard;
 
     @BeforeEach
     void setup() {
-        chessboard = new Chessboard();
+        chessboard = createBoard();
         BoardInitializer.initializeBoard(chessboard);
     }
 
+    Board createBoard() {
+        return new Chessboard();
+    }
+
     @DisplayName("체스판은 64개의 Square로 이루어진다.")
     @Test
     void createChessboardSuccessTest() {
-        assertThat(new Chessboard())
-                .extracting("board")
-                .asInstanceOf(InstanceOfAssertFactories.map(Square.class, Piece.class))
+        assertThat(createBoard().getBoardMap())
                 .hasSize(64);
     }
 
@@ -144,4 +146,57 @@ class ChessboardTest {
                 .isEqualTo(2);
 
     }
+
+    @DisplayName("기물이 놓이거나 바뀔 때마다 진영의 점수가 함께 갱신된다.")
+    @Test
+    void calculateScoreOfTest() {
+        Square square = Square.getInstanceOf(File.A, Rank.THREE);
+
+        chessboard.putPiece(square, PieceType.PAWN.createPiece(Camp.WHITE));
+
+        assertThat(chessboard.calculateScoreOf(Camp.WHITE))
+                .isEqualTo(38.0);
+
+        chessboard.putPiece(square, PieceType.QUEEN.createPiece(Camp.WHITE));
+
+        assertThat(chessboard.calculateScoreOf(Camp.WHITE))
+                .isEqualTo(47.0);
+        assertThat(chessboard.copy().calculateScoreOf(Camp.WHITE))
+                .isEqualTo(47.0);
+        assertThat(chessboard.calculateScoreOf(Camp.BLACK))
+                .isEqualTo(38.0);
+    }
+
+    @DisplayName("마지막으로 비운 뒤 기물이 바뀐 Square를 확인할 수 있다.")
+    @Test
+    void getDirtySquaresTest() {
+        Square source = Square.getInstanceOf(File.B, Rank.TWO);
+        Square target = Square.getInstanceOf(File.B, Rank.THREE);
+        chessboard.clearDirtySquares();
+
+        chessboard.swapPiece(source, target);
+
+        assertThat(chessboard.getDirtySquares())
+                .isEqualTo((1L << source.getIndex()) | (1L << target.getIndex()));
+        assertThat(chessboard.copy().getDirtySquares())
+                .isEqualTo(chessboard.getDirtySquares());
+
+        chessboard.clearDirtySquares();
+
+        assertThat(chessboard.getDirtySquares())
+                .isZero();
+    }
+
+    @DisplayName("각 진영이 공격하는 Square를 확인할 수 있다.")
+    @Test
+    void getAttacksTest() {
+        long whiteAttacks = chessboard.getAttacks(Camp.WHITE);
+
+        for (File file : File.values()) {
+            assertThat(whiteAttacks & (1L << Square.getInstanceOf(file, Rank.THREE).getIndex()))
+                    .isNotZero();
+            assertThat(whiteAttacks & (1L << Square.getInstanceOf(file, Rank.FOUR).getIndex()))
+                    .isZero();
+        }
+    }
 }
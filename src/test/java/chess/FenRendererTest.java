@@ -0,0 +1,48 @@
+package chess;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+import chess.util.FenRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FenRendererTest {
+    @DisplayName("FEN 문자열로 체스 게임을 생성할 수 있다.")
+    @Test
+    void renderFenTest() {
+        ChessGame chessGame = FenRenderer.render(new RoomName("test"), "4k3/8/8/8/8/8/P7/4K3 b - - 0 1");
+
+        assertThat(chessGame.getChessboard().getPieceAt(Square.getInstanceOf(File.A, Rank.TWO)))
+                .isEqualTo(PieceType.PAWN.createPiece(Camp.WHITE));
+        assertThat(chessGame.getChessboard().getPieceAt(Square.getInstanceOf(File.E, Rank.EIGHT)))
+                .isEqualTo(PieceType.KING.createPiece(Camp.BLACK));
+        assertThat(chessGame.isWhiteTurn())
+                .isFalse();
+    }
+
+    @DisplayName("체스 게임을 FEN 문자열로 변환할 수 있다.")
+    @Test
+    void renderChessGameTest() {
+        ChessGame chessGame = new ChessGame(new RoomName("test"));
+
+        assertThat(FenRenderer.render(chessGame))
+                .isEqualTo(FenRenderer.INITIAL_POSITION);
+    }
+
+    @ParameterizedTest(name = "잘못된 FEN 기물 배치는 예외가 발생한다.")
+    @ValueSource(strings = {"8/8/8", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNRR w"})
+    void renderInvalidFenTest(String fen) {
+        assertThatThrownBy(() -> FenRenderer.render(new RoomName("test"), fen))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
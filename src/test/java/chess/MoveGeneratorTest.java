@@ -0,0 +1,121 @@
+package chess;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.domain.move.Move;
+import chess.domain.move.MoveGenerator;
+import chess.domain.move.MoveList;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MoveGeneratorTest {
+    private final MoveList moves = new MoveList();
+
+    @DisplayName("초기 상태에서 white는 20개의 이동이 가능하다.")
+    @Test
+    void generateInitialMovesTest() {
+        ChessGame chessGame = new ChessGame(new RoomName("test"));
+
+        assertThat(chessGame.generateLegalMoves(moves).size())
+                .isEqualTo(20);
+    }
+
+    @DisplayName("생성된 이동은 ChessGame.move가 허용하는 이동과 일치한다.")
+    @Test
+    void generatedMovesMatchChessGameRuleTest() {
+        ChessGame chessGame = new ChessGame(new RoomName("test"));
+        Board chessboard = chessGame.getChessboard();
+        chessboard.swapPiece(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.E, Rank.FOUR));
+        chessboard.swapPiece(Square.getInstanceOf(File.D, Rank.SEVEN), Square.getInstanceOf(File.D, Rank.FIVE));
+        chessboard.swapPiece(Square.getInstanceOf(File.G, Rank.ONE), Square.getInstanceOf(File.F, Rank.THREE));
+        chessboard.swapPiece(Square.getInstanceOf(File.C, Rank.EIGHT), Square.getInstanceOf(File.G, Rank.FOUR));
+
+        assertThat(toSourceAndTargets(chessGame.generateLegalMoves(moves)))
+                .isEqualTo(findAcceptedMoves(chessboard));
+    }
+
+    private Set<Integer> toSourceAndTargets(MoveList moves) {
+        Set<Integer> sourceAndTargets = new HashSet<>();
+
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            sourceAndTargets.add(Move.of(Move.getSource(move), Move.getTarget(move)));
+        }
+
+        return sourceAndTargets;
+    }
+
+    private Set<Integer> findAcceptedMoves(Board position) {
+        Set<Integer> acceptedMoves = new HashSet<>();
+
+        for (int source = 0; source < 64; source++) {
+            for (int target = 0; target < 64; target++) {
+                if (isAccepted(position, Square.getInstanceOf(source), Square.getInstanceOf(target))) {
+                    acceptedMoves.add(Move.of(source, target));
+                }
+            }
+        }
+
+        return acceptedMoves;
+    }
+
+    private boolean isAccepted(Board position, Square source, Square target) {
+        Board chessboard = new BitboardChessboard();
+        position.getBoardMap().forEach(chessboard::putPiece);
+        ChessGame chessGame = new ChessGame(new RoomName("test"), chessboard);
+
+        try {
+            chessGame.move(source, target);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @DisplayName("King을 공격받게 만드는 이동은 생성되지 않는다.")
+    @Test
+    void pinnedPieceCannotMoveTest() {
+        Board chessboard = new BitboardChessboard();
+        chessboard.putPiece(Square.getInstanceOf(File.E, Rank.ONE), PieceType.KING.createPiece(Camp.WHITE));
+        chessboard.putPiece(Square.getInstanceOf(File.E, Rank.TWO), PieceType.ROOK.createPiece(Camp.WHITE));
+        chessboard.putPiece(Square.getInstanceOf(File.E, Rank.EIGHT), PieceType.ROOK.createPiece(Camp.BLACK));
+
+        MoveGenerator.generateLegalMoves(chessboard, Camp.WHITE, moves);
+
+        assertThat(moves.contains(Move.of(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.D, Rank.TWO))))
+                .isFalse();
+        assertThat(moves.contains(Move.of(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.E, Rank.EIGHT))))
+                .isTrue();
+    }
+
+    @DisplayName("마지막 Rank에 도달하는 Pawn의 이동은 Promotion 기물별로 생성된다.")
+    @Test
+    void generatePromotionMovesTest() {
+        Board chessboard = new BitboardChessboard();
+        Square source = Square.getInstanceOf(File.A, Rank.SEVEN);
+        Square target = Square.getInstanceOf(File.A, Rank.EIGHT);
+        chessboard.putPiece(source, PieceType.PAWN.createPiece(Camp.WHITE));
+
+        MoveGenerator.generateLegalMoves(chessboard, Camp.WHITE, moves);
+
+        assertThat(moves.toArray())
+                .containsExactlyInAnyOrder(
+                        Move.of(source.getIndex(), target.getIndex(), PieceType.QUEEN),
+                        Move.of(source.getIndex(), target.getIndex(), PieceType.ROOK),
+                        Move.of(source.getIndex(), target.getIndex(), PieceType.BISHOP),
+                        Move.of(source.getIndex(), target.getIndex(), PieceType.KNIGHT)
+                );
+    }
+}
@@ -0,0 +1,76 @@
+package chess;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.perft.Perft;
+import chess.util.FenRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PerftTest {
+    private static final String ENDGAME_POSITION = "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - -";
+
+    @ParameterizedTest(name = "주어진 깊이까지의 말단 노드 수를 셀 수 있다.")
+    @MethodSource("positionAndNodeCountProvider")
+    void countTest(String fen, int depth, long expectedNodes) {
+        ChessGame chessGame = FenRenderer.render(new RoomName("perft"), fen);
+
+        assertThat(new Perft(depth).count(chessGame, depth))
+                .isEqualTo(expectedNodes);
+    }
+
+    static Stream<Arguments> positionAndNodeCountProvider() {
+        return Stream.of(
+                Arguments.arguments(FenRenderer.INITIAL_POSITION, 1, 20L),
+                Arguments.arguments(FenRenderer.INITIAL_POSITION, 2, 400L),
+                Arguments.arguments(FenRenderer.INITIAL_POSITION, 3, 8_902L),
+                Arguments.arguments(FenRenderer.INITIAL_POSITION, 4, 197_281L),
+                Arguments.arguments(ENDGAME_POSITION, 1, 14L),
+                Arguments.arguments(ENDGAME_POSITION, 2, 191L)
+        );
+    }
+
+    @DisplayName("루트 이동별 노드 수의 합은 전체 노드 수와 같다.")
+    @Test
+    void divideTest() {
+        ChessGame chessGame = new ChessGame(new RoomName("perft"));
+        Map<Integer, Long> nodesPerMove = new Perft(3).divide(chessGame, 3);
+
+        assertThat(nodesPerMove).hasSize(20);
+        assertThat(nodesPerMove.values().stream().mapToLong(Long::longValue).sum())
+                .isEqualTo(8_902L);
+    }
+
+    @DisplayName("루트 이동을 병렬로 계산해도 결과가 같다.")
+    @Test
+    void divideInParallelTest() {
+        ChessGame chessGame = new ChessGame(new RoomName("perft"));
+        Map<Integer, Long> expected = new Perft(3).divide(chessGame, 3);
+
+        assertThat(Perft.divideInParallel(chessGame, 3, ForkJoinPool.commonPool()))
+                .isEqualTo(expected);
+    }
+
+    @DisplayName("음수 깊이나 깊이 0의 루트 이동별 계산은 예외가 발생한다.")
+    @Test
+    void invalidDepthTest() {
+        ChessGame chessGame = new ChessGame(new RoomName("perft"));
+
+        assertThatThrownBy(() -> new Perft(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new Perft(0).divide(chessGame, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Perft.divideInParallel(chessGame, 0, ForkJoinPool.commonPool()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
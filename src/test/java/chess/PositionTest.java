@@ -0,0 +1,107 @@
+package chess;
+
+import chess.domain.ChessGame;
+import chess.domain.GameStatus;
+import chess.domain.Position;
+import chess.domain.RoomName;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.domain.move.MoveList;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+import chess.util.FenRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PositionTest {
+    private ChessGame chessGame;
+
+    @BeforeEach
+    void setup() {
+        chessGame = new ChessGame(new RoomName("position"));
+    }
+
+    @Test
+    @DisplayName("게임 생성 시 초기 포지션이 발행된다")
+    void initialPositionTest() {
+        Position position = chessGame.getPosition();
+
+        assertThat(FenRenderer.render(position)).isEqualTo(FenRenderer.INITIAL_POSITION);
+        assertThat(position.calculateScoreOf(Camp.WHITE)).isEqualTo(38.0);
+        assertThat(position.getStatus()).isEqualTo(GameStatus.PLAYING);
+    }
+
+    @Test
+    @DisplayName("이동하면 새 포지션이 발행되고 이전 포지션은 변하지 않는다")
+    void publishOnMoveTest() {
+        Position before = chessGame.getPosition();
+        Square source = Square.getInstanceOf(File.E, Rank.TWO);
+        Square target = Square.getInstanceOf(File.E, Rank.FOUR);
+
+        chessGame.move(source, target);
+        Position after = chessGame.getPosition();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(before.getPieceAt(source)).isEqualTo(PieceType.PAWN.createPiece(Camp.WHITE));
+        assertThat(before.isWhiteTurn()).isTrue();
+        assertThat(after.getPieceAt(target)).isEqualTo(PieceType.PAWN.createPiece(Camp.WHITE));
+        assertThat(after.getPieceAt(source)).isEqualTo(PieceType.EMPTY.createPiece(Camp.NONE));
+        assertThat(after.isWhiteTurn()).isFalse();
+    }
+
+    @Test
+    @DisplayName("승급하는 수는 승급한 기물과 바뀐 차례를 담은 포지션 하나만 발행한다")
+    void publishOnPromotionTest() {
+        ChessGame promoting = FenRenderer.render(new RoomName("promote"), "4k3/P7/8/8/8/8/8/4K3 w - -");
+        Position before = promoting.getPosition();
+        Square source = Square.getInstanceOf(File.A, Rank.SEVEN);
+        Square target = Square.getInstanceOf(File.A, Rank.EIGHT);
+
+        promoting.move(source, target, PieceType.ROOK);
+        Position after = promoting.getPosition();
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.getPieceAt(target)).isEqualTo(PieceType.ROOK.createPiece(Camp.WHITE));
+        assertThat(after.isWhiteTurn()).isFalse();
+        assertThat(FenRenderer.render(after)).startsWith("R3k3/8/8/8/8/8/8/4K3 b");
+    }
+
+    @Test
+    @DisplayName("탐색용 수 두기와 되돌리기는 포지션을 발행하지 않는다")
+    void makeMoveDoesNotPublishTest() {
+        Position before = chessGame.getPosition();
+        MoveList moves = chessGame.generateLegalMoves(new MoveList());
+
+        chessGame.makeMove(moves.get(0));
+        assertThat(chessGame.getPosition()).isSameAs(before);
+        chessGame.unmakeMove();
+        assertThat(chessGame.getPosition()).isSameAs(before);
+    }
+
+    @Test
+    @DisplayName("보드를 직접 수정한 뒤 발행하면 변경된 포지션이 반영된다")
+    void publishPositionTest() {
+        Square square = Square.getInstanceOf(File.D, Rank.ONE);
+
+        chessGame.getChessboard().putPiece(square, PieceType.EMPTY.createPiece(Camp.NONE));
+        chessGame.publishPosition();
+        Position position = chessGame.getPosition();
+
+        assertThat(position.getPieces(PieceType.QUEEN, Camp.WHITE)).isZero();
+        assertThat(position.calculateScoreOf(Camp.WHITE)).isEqualTo(29.0);
+        assertThat(position.calculateScoreOf(Camp.BLACK)).isEqualTo(38.0);
+    }
+
+    @Test
+    @DisplayName("포지션의 게임 상태는 처음 조회할 때 포지션만으로 계산한다")
+    void lazyStatusTest() {
+        ChessGame foolsMate = FenRenderer.render(new RoomName("mate"),
+                "rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w - - 0 1");
+
+        assertThat(foolsMate.getPosition().getStatus()).isEqualTo(GameStatus.CHECKMATE);
+    }
+}
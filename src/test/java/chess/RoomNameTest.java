@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
@@ -29,4 +30,12 @@ public class RoomNameTest {
     void createRoomNameSuccessTest(String name) {
         assertDoesNotThrow(() -> new RoomName(name));
     }
+
+    @DisplayName("이름이 같은 방은 같은 방이다.")
+    @Test
+    void equalsTest() {
+        assertThat(new RoomName("room")).isEqualTo(new RoomName("room"))
+                .hasSameHashCodeAs(new RoomName("room"))
+                .isNotEqualTo(new RoomName("other"));
+    }
 }
@@ -0,0 +1,43 @@
+package chess;
+
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.RouteTable;
+import chess.domain.board.Square;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RouteTableTest {
+    @ParameterizedTest(name = "두 Square 사이의 경로를 미리 계산된 테이블에서 가져올 수 있다.")
+    @MethodSource("routeProvider")
+    void getBetweenTest(Square source, Square target, List<Square> expectedRoute) {
+        long expected = 0L;
+        for (Square square : expectedRoute) {
+            expected |= 1L << square.getIndex();
+        }
+
+        assertThat(RouteTable.getBetween(source, target))
+                .isEqualTo(expected);
+    }
+
+    static Stream<Arguments> routeProvider() {
+        return Stream.of(
+                Arguments.arguments(Square.getInstanceOf(File.A, Rank.ONE), Square.getInstanceOf(File.A, Rank.FOUR),
+                        List.of(Square.getInstanceOf(File.A, Rank.TWO), Square.getInstanceOf(File.A, Rank.THREE))),
+                Arguments.arguments(Square.getInstanceOf(File.H, Rank.ONE), Square.getInstanceOf(File.E, Rank.ONE),
+                        List.of(Square.getInstanceOf(File.G, Rank.ONE), Square.getInstanceOf(File.F, Rank.ONE))),
+                Arguments.arguments(Square.getInstanceOf(File.C, Rank.ONE), Square.getInstanceOf(File.F, Rank.FOUR),
+                        List.of(Square.getInstanceOf(File.D, Rank.TWO), Square.getInstanceOf(File.E, Rank.THREE))),
+                Arguments.arguments(Square.getInstanceOf(File.D, Rank.FOUR), Square.getInstanceOf(File.D, Rank.FIVE),
+                        List.of()),
+                Arguments.arguments(Square.getInstanceOf(File.B, Rank.ONE), Square.getInstanceOf(File.C, Rank.THREE),
+                        List.of())
+        );
+    }
+}
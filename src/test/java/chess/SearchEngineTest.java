@@ -0,0 +1,84 @@
+package chess;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.engine.SearchEngine;
+import chess.engine.SearchLimits;
+import chess.engine.SearchResult;
+import chess.util.FenRenderer;
+import chess.util.MoveRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SearchEngineTest {
+    private final SearchEngine searchEngine = new SearchEngine();
+
+    @Test
+    @DisplayName("한 수 만에 체크메이트할 수 있으면 해당 수를 찾는다.")
+    void findMateInOneTest() {
+        ChessGame chessGame = FenRenderer.render(new RoomName("engine"), "6k1/5ppp/8/8/8/8/8/R5K1 w - -");
+
+        SearchResult result = searchEngine.search(chessGame, SearchLimits.ofDepth(3));
+
+        assertThat(MoveRenderer.render(result.getBestMove())).isEqualTo("a1a8");
+        assertThat(result.getScore()).isEqualTo(SearchEngine.MATE_SCORE - 1);
+    }
+
+    @Test
+    @DisplayName("지켜지지 않은 퀸을 잡는 수를 찾는다.")
+    void findHangingQueenCaptureTest() {
+        ChessGame chessGame = FenRenderer.render(new RoomName("engine"), "4k3/8/8/3q4/8/8/3R4/4K3 w - -");
+
+        SearchResult result = searchEngine.search(chessGame, SearchLimits.ofDepth(2));
+
+        assertThat(MoveRenderer.render(result.getBestMove())).isEqualTo("d2d5");
+    }
+
+    @Test
+    @DisplayName("탐색 결과로 최선의 수로 시작하는 주요 변화와 탐색한 노드 수를 알려준다.")
+    void principalVariationTest() {
+        ChessGame chessGame = FenRenderer.render(new RoomName("engine"), FenRenderer.INITIAL_POSITION);
+
+        SearchResult result = searchEngine.search(chessGame, SearchLimits.ofDepth(3));
+
+        assertThat(result.getDepth()).isEqualTo(3);
+        assertThat(result.getPrincipalVariation()).hasSize(3)
+                .startsWith(result.getBestMove());
+        assertThat(result.getNodes()).isPositive();
+        assertThat(chessGame.getPositionKey())
+                .isEqualTo(FenRenderer.render(new RoomName("engine"), FenRenderer.INITIAL_POSITION).getPositionKey());
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 마지막으로 완료한 깊이의 결과를 돌려준다.")
+    void timeLimitTest() {
+        ChessGame chessGame = FenRenderer.render(new RoomName("engine"), FenRenderer.INITIAL_POSITION);
+
+        SearchResult result = searchEngine.search(chessGame, SearchLimits.ofTime(50));
+
+        assertThat(result.hasBestMove()).isTrue();
+        assertThat(result.getDepth()).isBetween(1, SearchLimits.MAX_DEPTH - 1);
+    }
+
+    @Test
+    @DisplayName("둘 수 있는 수가 없으면 최선의 수 없이 결과를 돌려준다.")
+    void noLegalMoveTest() {
+        ChessGame chessGame = FenRenderer.render(new RoomName("engine"), "7k/5Q2/6K1/8/8/8/8/8 b - -");
+
+        SearchResult result = searchEngine.search(chessGame, SearchLimits.ofDepth(2));
+
+        assertThat(result.hasBestMove()).isFalse();
+        assertThat(result.getScore()).isZero();
+    }
+
+    @Test
+    @DisplayName("탐색 깊이가 1보다 작으면 예외가 발생한다.")
+    void invalidDepthTest() {
+        assertThatThrownBy(() -> SearchLimits.ofDepth(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("탐색 깊이");
+    }
+}
@@ -0,0 +1,87 @@
+package chess;
+
+import chess.domain.move.Move;
+import chess.engine.Bound;
+import chess.engine.ReplacementPolicy;
+import chess.engine.TranspositionTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TranspositionTableTest {
+    private static final long KEY = 0x1234_5678_9ABC_DEF0L;
+
+    @Test
+    @DisplayName("저장한 깊이, 경계, 점수, 최선의 수를 그대로 조회할 수 있다.")
+    void storeAndProbeTest() {
+        TranspositionTable transpositionTable = new TranspositionTable(1);
+        int move = Move.of(52, 36);
+
+        transpositionTable.store(KEY, 7, Bound.LOWER, -350, move);
+        long entry = transpositionTable.probe(KEY);
+
+        assertThat(TranspositionTable.getDepth(entry)).isEqualTo(7);
+        assertThat(TranspositionTable.getBound(entry)).isEqualTo(Bound.LOWER);
+        assertThat(TranspositionTable.getScore(entry)).isEqualTo(-350);
+        assertThat(TranspositionTable.getMove(entry)).isEqualTo(move);
+    }
+
+    @Test
+    @DisplayName("같은 칸을 쓰는 다른 키로는 항목을 조회할 수 없다.")
+    void probeOtherKeyTest() {
+        TranspositionTable transpositionTable = new TranspositionTable(1);
+        long otherKey = KEY + ((long) transpositionTable.getCapacity() << 1);
+
+        transpositionTable.store(KEY, 1, Bound.EXACT, 0, 0);
+
+        assertThat(transpositionTable.probe(otherKey)).isEqualTo(TranspositionTable.NO_ENTRY);
+    }
+
+    @ParameterizedTest(name = "{0}MB 크기의 치환표는 2의 거듭제곱 개의 항목을 가진다.")
+    @ValueSource(ints = {1, 3, 16})
+    void capacityTest(int megabytes) {
+        int capacity = new TranspositionTable(megabytes).getCapacity();
+
+        assertThat(Integer.bitCount(capacity)).isOne();
+        assertThat((long) capacity * 2 * Long.BYTES).isLessThanOrEqualTo(megabytes * 1024L * 1024L);
+    }
+
+    @Test
+    @DisplayName("깊이 우선 정책은 더 얕은 탐색 결과로 다른 국면의 항목을 덮어쓰지 않는다.")
+    void depthPreferredPolicyTest() {
+        TranspositionTable transpositionTable = new TranspositionTable(1, ReplacementPolicy.DEPTH_PREFERRED);
+        long otherKey = KEY + transpositionTable.getCapacity();
+
+        transpositionTable.store(KEY, 5, Bound.EXACT, 10, 0);
+        transpositionTable.store(otherKey, 3, Bound.EXACT, 20, 0);
+
+        assertThat(transpositionTable.probe(KEY)).isNotEqualTo(TranspositionTable.NO_ENTRY);
+        assertThat(transpositionTable.probe(otherKey)).isEqualTo(TranspositionTable.NO_ENTRY);
+    }
+
+    @Test
+    @DisplayName("세대 정책은 이전 탐색에서 저장된 항목을 깊이와 관계없이 덮어쓴다.")
+    void agedDepthPreferredPolicyTest() {
+        TranspositionTable transpositionTable = new TranspositionTable(1, ReplacementPolicy.AGED_DEPTH_PREFERRED);
+        long otherKey = KEY + transpositionTable.getCapacity();
+
+        transpositionTable.store(KEY, 5, Bound.EXACT, 10, 0);
+        transpositionTable.newSearch();
+        transpositionTable.store(otherKey, 3, Bound.EXACT, 20, 0);
+
+        assertThat(transpositionTable.probe(KEY)).isEqualTo(TranspositionTable.NO_ENTRY);
+        assertThat(TranspositionTable.getScore(transpositionTable.probe(otherKey))).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("치환표 크기가 범위를 벗어나면 예외가 발생한다.")
+    void invalidMegabytesTest() {
+        assertThatThrownBy(() -> new TranspositionTable(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("치환표 크기");
+    }
+}
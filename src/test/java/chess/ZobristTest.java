@@ -0,0 +1,96 @@
+package chess;
+
+import chess.domain.BoardInitializer;
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.domain.board.Chessboard;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.domain.board.Zobrist;
+import chess.domain.move.MoveList;
+import chess.domain.piece.PieceType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ZobristTest {
+    @ParameterizedTest(name = "이동할 때마다 갱신된 키는 전체를 다시 계산한 키와 같다.")
+    @MethodSource("boardProvider")
+    void incrementalKeyMatchesRecomputedKeyTest(Board board) {
+        BoardInitializer.initializeBoard(board);
+        ChessGame chessGame = new ChessGame(new RoomName("test"), board);
+        MoveList moves = new MoveList();
+
+        for (int ply = 0; ply < 40 && !chessGame.generateLegalMoves(moves).isEmpty(); ply++) {
+            chessGame.makeMove(moves.get(ply * 7 % moves.size()));
+
+            assertThat(chessGame.getPositionKey())
+                    .isEqualTo(Zobrist.compute(board, chessGame.isWhiteTurn()));
+        }
+    }
+
+    static Stream<Arguments> boardProvider() {
+        return Stream.of(
+                Arguments.arguments(new Chessboard()),
+                Arguments.arguments(new BitboardChessboard())
+        );
+    }
+
+    @DisplayName("수순이 달라도 같은 국면이면 같은 키를 가진다.")
+    @Test
+    void transpositionHasSameKeyTest() {
+        ChessGame first = new ChessGame(new RoomName("first"));
+        ChessGame second = new ChessGame(new RoomName("second"));
+
+        first.move(square(File.E, Rank.TWO), square(File.E, Rank.FOUR));
+        first.move(square(File.E, Rank.SEVEN), square(File.E, Rank.FIVE));
+        first.move(square(File.G, Rank.ONE), square(File.F, Rank.THREE));
+        second.move(square(File.G, Rank.ONE), square(File.F, Rank.THREE));
+        second.move(square(File.E, Rank.SEVEN), square(File.E, Rank.FIVE));
+        second.move(square(File.E, Rank.TWO), square(File.E, Rank.FOUR));
+
+        assertThat(first.getPositionKey())
+                .isEqualTo(second.getPositionKey());
+    }
+
+    @DisplayName("기물 배치가 같아도 차례가 다르면 다른 키를 가진다.")
+    @Test
+    void turnChangesKeyTest() {
+        ChessGame chessGame = new ChessGame(new RoomName("test"));
+        long whiteTurnKey = chessGame.getPositionKey();
+
+        chessGame.passTurn();
+
+        assertThat(chessGame.getPositionKey())
+                .isNotEqualTo(whiteTurnKey);
+    }
+
+    @DisplayName("Promotion으로 기물이 바뀌면 키도 갱신된다.")
+    @Test
+    void promotionChangesKeyTest() {
+        ChessGame chessGame = new ChessGame(new RoomName("test"));
+        Board board = chessGame.getChessboard();
+        Square target = square(File.A, Rank.EIGHT);
+        board.swapPiece(square(File.A, Rank.TWO), target);
+        long pawnKey = board.getZobristKey();
+
+        chessGame.promotePawn(target, PieceType.QUEEN);
+
+        assertThat(board.getZobristKey())
+                .isNotEqualTo(pawnKey)
+                .isEqualTo(Zobrist.compute(board));
+    }
+
+    private Square square(File file, Rank rank) {
+        return Square.getInstanceOf(file, rank);
+    }
+}
@@ -0,0 +1,135 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.dto.GameRoomDto;
+import chess.util.BoardCodec;
+import chess.util.BoardRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardStateMigrationTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String ROOM_NAME = "migration";
+
+    private final DataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "");
+    private final JdbcDao jdbcDao = new JdbcDao(dataSource);
+
+    @BeforeEach
+    void setup() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS board");
+            statement.execute("DROP TABLE IF EXISTS room");
+            statement.execute("CREATE TABLE room (room_id INT NOT NULL AUTO_INCREMENT, "
+                    + "room_name VARCHAR(10) NOT NULL, is_white_turn BOOLEAN NOT NULL, "
+                    + "updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP, PRIMARY KEY (room_id), UNIQUE (room_name))");
+        }
+        SchemaMigration.migrate(dataSource);
+    }
+
+    @DisplayName("한 칸에 한 행으로 저장된 보드를 방의 이진 컬럼으로 옮긴다.")
+    @Test
+    void migrateTest() {
+        ChessGame chessGame = new ChessGame(new RoomName(ROOM_NAME));
+        chessGame.move(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.E, Rank.FOUR));
+        jdbcDao.save(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto(ROOM_NAME, false));
+
+        int migratedCount = new BoardStateMigration(dataSource).migrate();
+
+        byte[] boardState = jdbcDao.findBoardStateByRoomName(ROOM_NAME).orElseThrow();
+        Board board = new BitboardChessboard();
+        BoardCodec.decode(boardState, board);
+        Board renderedBoard = new BitboardChessboard();
+        BoardRenderer.putPieces(renderedBoard, jdbcDao.findBoardByRoomName(ROOM_NAME));
+        assertThat(migratedCount).isOne();
+        assertThat(board.getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(BoardCodec.isWhiteTurn(boardState)).isFalse();
+        assertThat(renderedBoard.getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(new BoardStateMigration(dataSource).migrate()).isZero();
+    }
+
+    @DisplayName("옮긴 방을 불러오면 옮기기 전 보드와 차례가 그대로다.")
+    @Test
+    void loadMigratedGameTest() {
+        ChessGame chessGame = new ChessGame(new RoomName(ROOM_NAME));
+        chessGame.move(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.E, Rank.FOUR));
+        jdbcDao.save(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto(ROOM_NAME, false));
+        new BoardStateMigration(dataSource).migrate();
+
+        ChessGame loaded = jdbcDao.loadGame(new RoomName(ROOM_NAME));
+
+        assertThat(loaded.getChessboard().getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(loaded.isWhiteTurn()).isFalse();
+    }
+
+    @DisplayName("옮긴 방을 갱신하면 이진 컬럼에 반영되어 다시 불러올 수 있다.")
+    @Test
+    void updateMigratedGameTest() {
+        ChessGame chessGame = new ChessGame(new RoomName(ROOM_NAME));
+        jdbcDao.save(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto(ROOM_NAME, true));
+        new BoardStateMigration(dataSource).migrate();
+        chessGame.getChessboard().clearDirtySquares();
+
+        chessGame.move(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.E, Rank.FOUR));
+        jdbcDao.saveOrUpdate(new GameRoomDto(ROOM_NAME, false), chessGame.getPosition(),
+                BoardRenderer.render(chessGame.getChessboard(), chessGame.getChessboard().getDirtySquares()));
+        chessGame.move(Square.getInstanceOf(File.E, Rank.SEVEN), Square.getInstanceOf(File.E, Rank.FIVE));
+        jdbcDao.update(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto(ROOM_NAME, true));
+
+        ChessGame loaded = jdbcDao.loadGame(new RoomName(ROOM_NAME));
+        byte[] boardState = jdbcDao.findBoardStateByRoomName(ROOM_NAME).orElseThrow();
+
+        assertThat(loaded.getChessboard().getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(loaded.isWhiteTurn()).isTrue();
+        assertThat(BoardCodec.isWhiteTurn(boardState)).isTrue();
+    }
+
+    @DisplayName("이진 저장 방식으로 만든 방은 칸별 행 없이 저장하고 불러온다.")
+    @Test
+    void saveWithBlobStorageTest() {
+        JdbcDao blobDao = new JdbcDao(dataSource, BoardStorage.BLOB);
+        ChessGame chessGame = new ChessGame(new RoomName(ROOM_NAME));
+        blobDao.save(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto(ROOM_NAME, true));
+        chessGame.getChessboard().clearDirtySquares();
+
+        chessGame.move(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.E, Rank.FOUR));
+        blobDao.saveOrUpdate(new GameRoomDto(ROOM_NAME, false), chessGame.getPosition(),
+                BoardRenderer.render(chessGame.getChessboard(), chessGame.getChessboard().getDirtySquares()));
+
+        ChessGame loaded = blobDao.loadGame(new RoomName(ROOM_NAME));
+        assertThat(jdbcDao.findBoardStateByRoomName(ROOM_NAME)).isPresent();
+        assertThat(new BoardStateMigration(dataSource).migrate()).isZero();
+        assertThat(loaded.getChessboard().getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(loaded.isWhiteTurn()).isFalse();
+    }
+
+    @DisplayName("이진 보드 상태를 저장하고 다시 저장하면 덮어쓴다.")
+    @Test
+    void saveBoardStateTest() {
+        new BoardStateMigration(dataSource).migrate();
+        ChessGame chessGame = new ChessGame(new RoomName(ROOM_NAME));
+        byte[] initialState = BoardCodec.encode(chessGame.getChessboard(), true);
+        jdbcDao.saveBoardState(new GameRoomDto(ROOM_NAME, true), initialState);
+
+        chessGame.move(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.E, Rank.FOUR));
+        byte[] movedState = BoardCodec.encode(chessGame.getChessboard(), false);
+        jdbcDao.saveBoardState(new GameRoomDto(ROOM_NAME, false), movedState);
+
+        assertThat(jdbcDao.findBoardStateByRoomName(ROOM_NAME)).contains(movedState);
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isFalse();
+    }
+}
@@ -0,0 +1,190 @@
+package chess.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionPoolTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:pool;DB_CLOSE_DELAY=-1";
+    private static final Duration LONG_TIMEOUT = Duration.ofMinutes(1);
+
+    private final AtomicInteger createdConnections = new AtomicInteger();
+    private final DriverManagerDataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "") {
+        @Override
+        public Connection getConnection() throws SQLException {
+            createdConnections.incrementAndGet();
+            return super.getConnection();
+        }
+    };
+    private ConnectionPool connectionPool;
+
+    @AfterEach
+    void tearDown() {
+        connectionPool.close();
+    }
+
+    @DisplayName("반환된 커넥션을 다시 사용한다.")
+    @Test
+    void reuseConnectionTest() throws SQLException {
+        connectionPool = new ConnectionPool(dataSource, new ConnectionPoolConfig(0, 2, LONG_TIMEOUT, LONG_TIMEOUT));
+
+        for (int i = 0; i < 5; i++) {
+            try (Connection connection = connectionPool.getConnection()) {
+                assertThat(connection.isValid(1)).isTrue();
+            }
+        }
+
+        assertThat(createdConnections.get()).isOne();
+        assertThat(connectionPool.getMetrics().getAcquisitionCount()).isEqualTo(5);
+    }
+
+    @DisplayName("사용 중인 커넥션과 대기 중인 커넥션의 수를 알려준다.")
+    @Test
+    void activeAndIdleCountTest() throws SQLException {
+        connectionPool = new ConnectionPool(dataSource, new ConnectionPoolConfig(0, 2, LONG_TIMEOUT, LONG_TIMEOUT));
+        Connection first = connectionPool.getConnection();
+        Connection second = connectionPool.getConnection();
+
+        first.close();
+        ConnectionPoolMetrics metrics = connectionPool.getMetrics();
+        second.close();
+
+        assertThat(metrics.getActiveCount()).isOne();
+        assertThat(metrics.getIdleCount()).isOne();
+        assertThat(connectionPool.getMetrics().getIdleCount()).isEqualTo(2);
+    }
+
+    @DisplayName("최대 크기만큼 사용 중이면 대기 시간이 지난 뒤 예외가 발생한다.")
+    @Test
+    void acquisitionTimeoutTest() throws SQLException {
+        connectionPool = new ConnectionPool(dataSource,
+                new ConnectionPoolConfig(0, 1, LONG_TIMEOUT, Duration.ofMillis(50)));
+
+        try (Connection connection = connectionPool.getConnection()) {
+            assertThat(connection.isClosed()).isFalse();
+            assertThatThrownBy(() -> connectionPool.getConnection())
+                    .isInstanceOf(SQLTimeoutException.class);
+        }
+
+        assertThat(connectionPool.getMetrics().getTimeoutCount()).isOne();
+    }
+
+    @DisplayName("유휴 시간이 지난 커넥션은 최소 크기까지 정리한다.")
+    @Test
+    void evictIdleConnectionTest() throws SQLException, InterruptedException {
+        connectionPool = new ConnectionPool(dataSource,
+                new ConnectionPoolConfig(1, 3, Duration.ofMillis(10), LONG_TIMEOUT));
+        Connection first = connectionPool.getConnection();
+        Connection second = connectionPool.getConnection();
+        first.close();
+        second.close();
+
+        Thread.sleep(30);
+        connectionPool.maintain();
+
+        assertThat(connectionPool.getMetrics().getIdleCount()).isOne();
+    }
+
+    @DisplayName("트랜잭션 중에 반환된 커넥션은 롤백하고 자동 커밋으로 되돌린다.")
+    @Test
+    void resetConnectionTest() throws SQLException {
+        connectionPool = new ConnectionPool(dataSource, new ConnectionPoolConfig(0, 1, LONG_TIMEOUT, LONG_TIMEOUT));
+
+        try (Connection connection = connectionPool.getConnection()) {
+            connection.setAutoCommit(false);
+        }
+
+        try (Connection connection = connectionPool.getConnection()) {
+            assertThat(connection.getAutoCommit()).isTrue();
+        }
+    }
+
+    @DisplayName("반환된 커넥션은 사용할 수 없다.")
+    @Test
+    void useReleasedConnectionTest() throws SQLException {
+        connectionPool = new ConnectionPool(dataSource, new ConnectionPoolConfig(0, 1, LONG_TIMEOUT, LONG_TIMEOUT));
+        Connection connection = connectionPool.getConnection();
+
+        connection.close();
+
+        assertThat(connection.isClosed()).isTrue();
+        assertThatThrownBy(connection::createStatement)
+                .isInstanceOf(SQLException.class)
+                .hasMessage("이미 반환된 커넥션입니다.");
+    }
+
+    @DisplayName("최소 크기가 최대 크기보다 크면 예외가 발생한다.")
+    @Test
+    void invalidConfigTest() {
+        connectionPool = new ConnectionPool(dataSource, new ConnectionPoolConfig(0, 1, LONG_TIMEOUT, LONG_TIMEOUT));
+
+        assertThatThrownBy(() -> new ConnectionPoolConfig(3, 2, LONG_TIMEOUT, LONG_TIMEOUT))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("오래 대기한 커넥션이 끊겼으면 버리고 새 커넥션을 연다.")
+    @Test
+    void discardDroppedConnectionTest() throws SQLException, InterruptedException {
+        AtomicBoolean dropped = new AtomicBoolean();
+        DriverManagerDataSource droppingDataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "") {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (createdConnections.incrementAndGet() == 1) {
+                    return droppable(super.getConnection(), dropped);
+                }
+                return super.getConnection();
+            }
+        };
+        connectionPool = new ConnectionPool(droppingDataSource,
+                new ConnectionPoolConfig(0, 1, LONG_TIMEOUT, LONG_TIMEOUT));
+        connectionPool.getConnection().close();
+
+        dropped.set(true);
+        Thread.sleep(600);
+        try (Connection connection = connectionPool.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        assertThat(createdConnections.get()).isEqualTo(2);
+    }
+
+    @DisplayName("빌린 커넥션에서 원본 커넥션을 꺼낼 수 없다.")
+    @Test
+    void unwrapTest() throws SQLException {
+        connectionPool = new ConnectionPool(dataSource, new ConnectionPoolConfig(0, 1, LONG_TIMEOUT, LONG_TIMEOUT));
+
+        try (Connection connection = connectionPool.getConnection()) {
+            assertThat(connection.unwrap(Connection.class)).isSameAs(connection);
+            assertThat(connection.isWrapperFor(org.h2.jdbc.JdbcConnection.class)).isFalse();
+            assertThatThrownBy(() -> connection.unwrap(org.h2.jdbc.JdbcConnection.class))
+                    .isInstanceOf(SQLException.class);
+        }
+    }
+
+    private static Connection droppable(Connection connection, AtomicBoolean dropped) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("isValid") && dropped.get()) {
+                        return false;
+                    }
+
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
@@ -0,0 +1,234 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.Position;
+import chess.domain.RoomName;
+import chess.domain.board.Square;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+import chess.util.FenRenderer;
+import chess.util.SquareRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameCacheTest {
+    private static final int THREAD_COUNT = 16;
+    private static final int MOVES_PER_THREAD = 500;
+    private static final RoomName ROOM_NAME = new RoomName("cache");
+    private static final RoomName OTHER_ROOM_NAME = new RoomName("cache2");
+
+    private final InMemoryGameRepository gameRepository = new InMemoryGameRepository();
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @DisplayName("캐시된 방은 저장소를 거치지 않고 같은 게임을 돌려준다.")
+    @Test
+    void hitTest() {
+        GameCache gameCache = new GameCache(gameRepository, 2, Duration.ofMinutes(1), nanoTime::get);
+
+        ChessGame chessGame = gameCache.get(ROOM_NAME);
+
+        assertThat(gameCache.get(new RoomName("cache"))).isSameAs(chessGame);
+        assertThat(gameCache.getMissCount()).isEqualTo(1);
+        assertThat(gameCache.getHitCount()).isEqualTo(1);
+    }
+
+    @DisplayName("저장된 방은 기록된 턴과 보드로 불러온다.")
+    @Test
+    void loadTest() {
+        ChessGame recorded = new ChessGame(ROOM_NAME);
+        recorded.move(SquareRenderer.render("e2"), SquareRenderer.render("e4"));
+        gameRepository.save(BoardRenderer.render(recorded.getChessboard()), new GameRoomDto("cache", false));
+        GameCache gameCache = new GameCache(gameRepository, 2, Duration.ofMinutes(1), nanoTime::get);
+
+        ChessGame chessGame = gameCache.get(ROOM_NAME);
+
+        assertThat(chessGame.isWhiteTurn()).isFalse();
+        assertThat(chessGame.getChessboard().getBoardMap()).isEqualTo(recorded.getChessboard().getBoardMap());
+        assertThat(chessGame.getChessboard().getDirtySquares()).isZero();
+    }
+
+    @DisplayName("크기를 넘으면 가장 오래 사용하지 않은 방을 저장하고 내보낸다.")
+    @Test
+    void evictLeastRecentlyUsedTest() {
+        GameCache gameCache = new GameCache(gameRepository, 1, Duration.ofMinutes(1), nanoTime::get);
+        ChessGame chessGame = gameCache.get(ROOM_NAME);
+        chessGame.move(SquareRenderer.render("e2"), SquareRenderer.render("e4"));
+
+        gameCache.get(OTHER_ROOM_NAME);
+
+        assertThat(gameCache.size()).isEqualTo(1);
+        assertThat(gameCache.getEvictionCount()).isEqualTo(1);
+        assertThat(gameRepository.findGameRoomByName("cache").orElseThrow().isWhiteTurn()).isFalse();
+        assertThat(gameCache.get(ROOM_NAME).getChessboard().getBoardMap())
+                .isEqualTo(chessGame.getChessboard().getBoardMap());
+    }
+
+    @DisplayName("만료 시간 동안 사용하지 않은 방은 저장하고 내보낸다.")
+    @Test
+    void evictExpiredTest() {
+        GameCache gameCache = new GameCache(gameRepository, 2, Duration.ofSeconds(1), nanoTime::get);
+        gameCache.get(ROOM_NAME);
+        nanoTime.addAndGet(Duration.ofMillis(500).toNanos());
+        gameCache.get(OTHER_ROOM_NAME);
+        nanoTime.addAndGet(Duration.ofMillis(600).toNanos());
+
+        gameCache.evictExpired();
+
+        assertThat(gameCache.size()).isEqualTo(1);
+        assertThat(gameCache.getEvictionCount()).isEqualTo(1);
+        assertThat(gameRepository.findGameRoomByName("cache")).isPresent();
+        assertThat(gameRepository.findGameRoomByName("cache2")).isEmpty();
+    }
+
+    @DisplayName("내보내는 방을 동시에 불러오면 저장이 끝난 뒤의 상태를 받는다.")
+    @Test
+    void loadWhileEvictingTest() throws InterruptedException {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        GameRepository slowRepository = new InMemoryGameRepository() {
+            @Override
+            public void saveOrUpdate(GameRoomDto gameRoom, Position position, List<BoardDto> changedBoardDtoList) {
+                writing.countDown();
+                awaitQuietly(released);
+                super.saveOrUpdate(gameRoom, position, changedBoardDtoList);
+            }
+        };
+        GameCache gameCache = new GameCache(slowRepository, 1, Duration.ofMinutes(1), nanoTime::get);
+        gameCache.get(ROOM_NAME).move(SquareRenderer.render("e2"), SquareRenderer.render("e4"));
+
+        CompletableFuture<ChessGame> evicting = CompletableFuture.supplyAsync(() -> gameCache.get(OTHER_ROOM_NAME));
+        writing.await();
+        CompletableFuture<ChessGame> loading = CompletableFuture.supplyAsync(() -> gameCache.get(ROOM_NAME));
+        Thread.sleep(100);
+        released.countDown();
+
+        evicting.join();
+        ChessGame loaded = loading.join();
+
+        assertThat(loaded.isWhiteTurn()).isFalse();
+        assertThat(loaded.getChessboard().getPieceAt(SquareRenderer.render("e4")))
+                .isEqualTo(PieceType.PAWN.createPiece(Camp.WHITE));
+    }
+
+    @DisplayName("무효화한 방은 저장하지 않고 버린다.")
+    @Test
+    void invalidateTest() {
+        GameCache gameCache = new GameCache(gameRepository, 2, Duration.ofMinutes(1), nanoTime::get);
+        gameCache.get(ROOM_NAME);
+
+        gameCache.invalidate(ROOM_NAME);
+        gameCache.evictAll();
+
+        assertThat(gameCache.size()).isZero();
+        assertThat(gameRepository.findGameRoomByName("cache")).isEmpty();
+    }
+
+    @DisplayName("같은 방에 대한 동시 실행은 방 단위 잠금으로 순서대로 처리된다.")
+    @Test
+    void executeTest() throws InterruptedException {
+        GameCache gameCache = new GameCache(gameRepository, 2, Duration.ofMinutes(1), nanoTime::get);
+        Thread[] threads = new Thread[8];
+        int[] executed = new int[1];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    gameCache.execute(ROOM_NAME, chessGame -> executed[0]++);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(executed[0]).isEqualTo(80_000);
+    }
+
+    @DisplayName("여러 스레드가 한 방에 동시에 수를 두어도 내보내기와 상관없이 모든 수가 순서대로 반영된다.")
+    @Test
+    void stressTest() throws Exception {
+        GameCache gameCache = new GameCache(gameRepository, 1, Duration.ofMinutes(1), nanoTime::get);
+        RoomName roomName = new RoomName("stress");
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicBoolean moving = new AtomicBoolean(true);
+        List<Future<?>> results = new ArrayList<>();
+
+        Future<?> evictor = executor.submit(() -> {
+            startLatch.await();
+            for (int i = 0; moving.get(); i++) {
+                gameCache.get(new RoomName("other" + i % 4));
+            }
+            return null;
+        });
+        for (int thread = 0; thread < THREAD_COUNT; thread++) {
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                for (int move = 0; move < MOVES_PER_THREAD; move++) {
+                    gameCache.execute(new RoomName("stress"), this::shuffleKnight);
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        moving.set(false);
+        evictor.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(THREAD_COUNT * MOVES_PER_THREAD % 4).isZero();
+        assertThat(gameCache.getEvictionCount()).isPositive();
+        String position = gameCache.execute(roomName, chessGame -> FenRenderer.render(chessGame));
+        assertThat(position).isEqualTo(FenRenderer.INITIAL_POSITION);
+    }
+
+    private boolean shuffleKnight(ChessGame chessGame) {
+        if (chessGame.isWhiteTurn()) {
+            moveBetween(chessGame, "g1", "f3");
+            return true;
+        }
+
+        moveBetween(chessGame, "g8", "f6");
+        return false;
+    }
+
+    private void moveBetween(ChessGame chessGame, String home, String away) {
+        Square homeSquare = SquareRenderer.render(home);
+        Square awaySquare = SquareRenderer.render(away);
+
+        if (chessGame.getChessboard().getPieceAt(homeSquare).getPieceType() == PieceType.KNIGHT) {
+            chessGame.move(homeSquare, awaySquare);
+            return;
+        }
+
+        chessGame.move(awaySquare, homeSquare);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryGameRepositoryTest {
+    private static final String ROOM_NAME = "memory";
+
+    private final InMemoryGameRepository gameRepository = new InMemoryGameRepository();
+
+    @DisplayName("저장한 방의 턴과 보드를 조회한다.")
+    @Test
+    void saveTest() {
+        List<BoardDto> board = BoardRenderer.render(new ChessGame(new RoomName(ROOM_NAME)).getChessboard());
+
+        gameRepository.save(board, new GameRoomDto(ROOM_NAME, false));
+
+        assertThat(gameRepository.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isFalse();
+        assertThat(gameRepository.findBoardByRoomName(ROOM_NAME))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(board);
+    }
+
+    @DisplayName("변경된 칸과 턴만 반영한다.")
+    @Test
+    void updateSquaresTest() {
+        List<BoardDto> board = BoardRenderer.render(new ChessGame(new RoomName(ROOM_NAME)).getChessboard());
+        gameRepository.save(board, new GameRoomDto(ROOM_NAME, true));
+
+        boolean updated = gameRepository.updateSquares(
+                List.of(new BoardDto("e2", "."), new BoardDto("e4", "p")), new GameRoomDto(ROOM_NAME, false));
+
+        assertThat(updated).isTrue();
+        assertThat(gameRepository.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isFalse();
+        assertThat(gameRepository.findBoardByRoomName(ROOM_NAME))
+                .filteredOn(boardDto -> boardDto.getSource().equals("e4"))
+                .extracting(BoardDto::getPiece)
+                .containsExactly("p");
+    }
+
+    @DisplayName("저장되지 않은 칸이나 방은 부분 갱신할 수 없다.")
+    @Test
+    void updateSquaresFailTest() {
+        gameRepository.save(List.of(new BoardDto("a1", "r")), new GameRoomDto(ROOM_NAME, true));
+
+        assertThat(gameRepository.updateSquares(List.of(new BoardDto("a2", "p")), new GameRoomDto(ROOM_NAME, false)))
+                .isFalse();
+        assertThat(gameRepository.updateSquares(List.of(new BoardDto("a1", "p")), new GameRoomDto("none", false)))
+                .isFalse();
+        assertThat(gameRepository.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isTrue();
+    }
+
+    @DisplayName("여러 스레드가 동시에 서로 다른 방을 저장할 수 있다.")
+    @Test
+    void concurrentSaveTest() {
+        List<BoardDto> board = BoardRenderer.render(new ChessGame(new RoomName(ROOM_NAME)).getChessboard());
+
+        IntStream.range(0, 5_000).parallel()
+                .forEach(room -> gameRepository.save(board, new GameRoomDto(String.valueOf(room), true)));
+
+        assertThat(gameRepository.size()).isEqualTo(5_000);
+    }
+
+    @DisplayName("삭제한 방은 조회되지 않는다.")
+    @Test
+    void deleteAllByNameTest() {
+        gameRepository.save(List.of(new BoardDto("a1", "r")), new GameRoomDto(ROOM_NAME, true));
+
+        gameRepository.deleteAllByName(ROOM_NAME);
+
+        assertThat(gameRepository.findGameRoomByName(ROOM_NAME)).isEmpty();
+        assertThat(gameRepository.findBoardByRoomName(ROOM_NAME)).isEmpty();
+    }
+}
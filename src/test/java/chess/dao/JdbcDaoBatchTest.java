@@ -0,0 +1,220 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JdbcDaoBatchTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:batch;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String ROOM_NAME = "batch";
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate", "executeBatch");
+
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    private final DataSource dataSource = countRoundTrips(new DriverManagerDataSource(EMBEDDED_URL, "sa", ""));
+    private final List<BoardDto> boardDtoList = BoardRenderer.render(new ChessGame(new RoomName(ROOM_NAME)).getChessboard());
+
+    @BeforeEach
+    void setup() {
+        SchemaInitializer.initialize(dataSource);
+        new JdbcDao(dataSource).deleteAllByName(ROOM_NAME);
+        roundTrips.set(0);
+    }
+
+    @DisplayName("64칸의 보드를 한 번의 배치로 저장한다.")
+    @Test
+    void saveInOneBatchTest() {
+        JdbcDao jdbcDao = new JdbcDao(dataSource, 64);
+
+        jdbcDao.save(boardDtoList, new GameRoomDto(ROOM_NAME, true));
+
+        assertThat(roundTrips.get()).isEqualTo(2);
+        assertThat(jdbcDao.findBoardByRoomName(ROOM_NAME)).hasSize(64);
+    }
+
+    @DisplayName("배치 크기마다 나누어 보드를 다시 쓴다.")
+    @Test
+    void updateInBatchesTest() {
+        JdbcDao jdbcDao = new JdbcDao(dataSource, 64);
+        jdbcDao.save(boardDtoList, new GameRoomDto(ROOM_NAME, true));
+        roundTrips.set(0);
+
+        new JdbcDao(dataSource, 10).update(boardDtoList, new GameRoomDto(ROOM_NAME, false));
+
+        assertThat(roundTrips.get()).isEqualTo(3 + 7);
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isFalse();
+    }
+
+    @DisplayName("방의 턴과 보드를 한 번의 조회로 불러온다.")
+    @Test
+    void loadGameRoomTest() {
+        JdbcDao jdbcDao = new JdbcDao(dataSource);
+        jdbcDao.save(boardDtoList, new GameRoomDto(ROOM_NAME, false));
+        roundTrips.set(0);
+        Board board = new BitboardChessboard();
+
+        GameRoomDto gameRoom = jdbcDao.loadGameRoom(ROOM_NAME, board).orElseThrow();
+
+        assertThat(roundTrips.get()).isEqualTo(1);
+        assertThat(gameRoom.isWhiteTurn()).isFalse();
+        assertThat(board.getBoardMap())
+                .isEqualTo(new ChessGame(new RoomName(ROOM_NAME)).getChessboard().getBoardMap());
+    }
+
+    @DisplayName("없는 방은 불러오지 않는다.")
+    @Test
+    void loadGameRoomEmptyTest() {
+        Board board = new BitboardChessboard();
+
+        assertThat(new JdbcDao(dataSource).loadGameRoom(ROOM_NAME, board)).isEmpty();
+        assertThat(board.getDirtySquares()).isZero();
+    }
+
+    @DisplayName("바뀐 칸만 갱신할 수 있다.")
+    @Test
+    void updateSquaresTest() {
+        JdbcDao jdbcDao = new JdbcDao(dataSource);
+        jdbcDao.save(boardDtoList, new GameRoomDto(ROOM_NAME, true));
+        roundTrips.set(0);
+
+        boolean updated = jdbcDao.updateSquares(
+                List.of(new BoardDto("b2", "."), new BoardDto("b3", "p")), new GameRoomDto(ROOM_NAME, false));
+
+        assertThat(updated).isTrue();
+        assertThat(roundTrips.get()).isEqualTo(3);
+        assertThat(jdbcDao.findBoardByRoomName(ROOM_NAME))
+                .anyMatch(boardDto -> boardDto.getSource().equals("b3") && boardDto.getPiece().equals("p"));
+    }
+
+    @DisplayName("갱신할 칸이 저장되어 있지 않으면 아무것도 바꾸지 않는다.")
+    @Test
+    void updateMissingSquaresTest() {
+        JdbcDao jdbcDao = new JdbcDao(dataSource);
+        jdbcDao.save(boardDtoList.subList(0, 32), new GameRoomDto(ROOM_NAME, true));
+
+        boolean updated = jdbcDao.updateSquares(
+                List.of(new BoardDto("a8", "."), new BoardDto("h1", ".")), new GameRoomDto(ROOM_NAME, false));
+
+        assertThat(updated).isFalse();
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isTrue();
+    }
+
+    @DisplayName("전체 갱신은 저장된 칸과 관계없이 보드를 다시 쓴다.")
+    @Test
+    void rewriteBoardTest() {
+        JdbcDao jdbcDao = new JdbcDao(dataSource);
+        jdbcDao.save(boardDtoList.subList(0, 32), new GameRoomDto(ROOM_NAME, true));
+
+        jdbcDao.update(boardDtoList, new GameRoomDto(ROOM_NAME, false));
+
+        assertThat(jdbcDao.findBoardByRoomName(ROOM_NAME)).hasSize(64);
+    }
+
+    @DisplayName("배치 크기가 1이면 칸마다 따로 저장한다.")
+    @Test
+    void saveWithoutBatchTest() {
+        new JdbcDao(dataSource, 1).save(boardDtoList, new GameRoomDto(ROOM_NAME, true));
+
+        assertThat(roundTrips.get()).isEqualTo(1 + 64);
+    }
+
+    @DisplayName("보드 저장에 실패하면 방 저장도 함께 취소된다.")
+    @Test
+    void rollbackTest() {
+        JdbcDao jdbcDao = new JdbcDao(dataSource);
+        List<BoardDto> invalidBoardDtoList = new ArrayList<>(boardDtoList);
+        invalidBoardDtoList.add(boardDtoList.get(0));
+
+        assertThatThrownBy(() -> jdbcDao.save(invalidBoardDtoList, new GameRoomDto(ROOM_NAME, true)))
+                .isInstanceOf(RuntimeException.class);
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME)).isEmpty();
+    }
+
+    @DisplayName("배치 크기가 1보다 작으면 예외가 발생한다.")
+    @Test
+    void invalidBatchSizeTest() {
+        assertThatThrownBy(() -> new JdbcDao(dataSource, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("배치 크기는 1 이상이어야 합니다.");
+    }
+
+    @DisplayName("커넥션을 얻지 못하면 원인을 담은 예외가 발생한다.")
+    @Test
+    void acquisitionTimeoutTest() throws SQLException {
+        ConnectionPoolConfig config = new ConnectionPoolConfig(0, 1, Duration.ofMinutes(1), Duration.ofMillis(50));
+
+        try (ConnectionPool connectionPool = new ConnectionPool(dataSource, config);
+             Connection held = connectionPool.getConnection()) {
+            JdbcDao jdbcDao = new JdbcDao(connectionPool);
+            assertThat(held.isClosed()).isFalse();
+
+            assertThatThrownBy(() -> jdbcDao.save(boardDtoList, new GameRoomDto(ROOM_NAME, true)))
+                    .isInstanceOf(RuntimeException.class)
+                    .hasCauseInstanceOf(SQLTimeoutException.class);
+        }
+    }
+
+    private DataSource countRoundTrips(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (methodName, result) -> {
+            if (result instanceof Connection) {
+                return countRoundTrips((Connection) result);
+            }
+            return result;
+        });
+    }
+
+    private Connection countRoundTrips(Connection connection) {
+        return proxy(Connection.class, connection, (methodName, result) -> {
+            if (result instanceof PreparedStatement) {
+                return proxy(PreparedStatement.class, (PreparedStatement) result, this::countExecution);
+            }
+            return result;
+        });
+    }
+
+    private Object countExecution(String methodName, Object result) {
+        if (EXECUTE_METHODS.contains(methodName)) {
+            roundTrips.incrementAndGet();
+        }
+        return result;
+    }
+
+    private static <T> T proxy(Class<T> type, T delegate, ResultDecorator decorator) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return decorator.decorate(method.getName(), method.invoke(delegate, args));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private interface ResultDecorator {
+        Object decorate(String methodName, Object result);
+    }
+}
@@ -2,7 +2,7 @@ package chess.dao;
 
 import chess.domain.ChessGame;
 import chess.domain.RoomName;
-import chess.domain.board.Chessboard;
+import chess.domain.board.Board;
 import chess.domain.board.File;
 import chess.domain.board.Rank;
 import chess.domain.board.Square;
@@ -20,7 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 @TestInstance(TestInstance.Lifecycle.PER_CLASS)
 public class JdbcDaoTest {
     private final String ROOM_NAME = "test";
-    private final JdbcDao jdbcDao = new JdbcDao();
+    private final ConnectionPool connectionPool = DatabaseProperties.load().createConnectionPool();
+    private final JdbcDao jdbcDao = new JdbcDao(connectionPool);
 
     @BeforeEach
     void setup() {
@@ -29,7 +30,11 @@ public class JdbcDaoTest {
 
     @AfterAll()
     void deleteAll() {
-        jdbcDao.deleteAllByName(ROOM_NAME);
+        try {
+            jdbcDao.deleteAllByName(ROOM_NAME);
+        } finally {
+            connectionPool.close();
+        }
     }
 
     @DisplayName("DB에 게임 정보를 저장할 수 있다.")
@@ -69,7 +74,7 @@ public class JdbcDaoTest {
     }
 
     private List<BoardDto> createBoardDtoList(ChessGame chessGame) {
-        Chessboard board = chessGame.getChessboard();
+        Board board = chessGame.getChessboard();
         List<BoardDto> boardDtoList = new ArrayList<>();
         for (Square square : board.getBoardMap().keySet()) {
             String source = SquareRenderer.render(square);
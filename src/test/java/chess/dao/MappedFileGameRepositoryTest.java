@@ -0,0 +1,120 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+import chess.util.SquareRenderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedFileGameRepositoryTest {
+    private static final String ROOM_NAME = "파일방";
+
+    @TempDir
+    Path directory;
+
+    @DisplayName("파일을 다시 열어도 저장한 방을 조회한다.")
+    @Test
+    void reopenTest() {
+        Path path = directory.resolve("rooms.dat");
+        ChessGame chessGame = new ChessGame(new RoomName(ROOM_NAME));
+        chessGame.move(SquareRenderer.render("e2"), SquareRenderer.render("e4"));
+        List<BoardDto> board = BoardRenderer.render(chessGame.getChessboard());
+
+        try (MappedFileGameRepository gameRepository = new MappedFileGameRepository(path, 16)) {
+            gameRepository.save(board, new GameRoomDto(ROOM_NAME, false));
+        }
+
+        try (MappedFileGameRepository gameRepository = new MappedFileGameRepository(path, 16)) {
+            assertThat(gameRepository.size()).isEqualTo(1);
+            assertThat(gameRepository.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isFalse();
+            assertThat(gameRepository.findBoardByRoomName(ROOM_NAME))
+                    .usingRecursiveFieldByFieldElementComparator()
+                    .containsExactlyInAnyOrderElementsOf(board);
+        }
+    }
+
+    @DisplayName("파일에 기록된 용량과 다른 용량으로는 열 수 없다.")
+    @Test
+    void capacityMismatchTest() throws IOException {
+        Path path = directory.resolve("rooms.dat");
+        try (MappedFileGameRepository gameRepository = new MappedFileGameRepository(path, 16)) {
+            gameRepository.save(BoardRenderer.render(new ChessGame(new RoomName(ROOM_NAME)).getChessboard()),
+                    new GameRoomDto(ROOM_NAME, true));
+        }
+        long fileSize = Files.size(path);
+
+        assertThatThrownBy(() -> new MappedFileGameRepository(path, 8))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("게임 저장 파일의 용량(16)과 설정한 용량(8)이 다릅니다.");
+        assertThatThrownBy(() -> new MappedFileGameRepository(path, 32))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(Files.size(path)).isEqualTo(fileSize);
+    }
+
+    @DisplayName("게임 저장 파일 형식이 아니면 열 수 없다.")
+    @Test
+    void invalidHeaderTest() throws IOException {
+        Path path = directory.resolve("rooms.dat");
+        Files.write(path, new byte[160]);
+
+        assertThatThrownBy(() -> new MappedFileGameRepository(path, 2))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("게임 저장 파일 형식이 올바르지 않습니다.");
+    }
+
+    @DisplayName("변경된 칸과 턴만 반영한다.")
+    @Test
+    void updateSquaresTest() {
+        try (MappedFileGameRepository gameRepository = new MappedFileGameRepository(directory.resolve("rooms.dat"), 4)) {
+            List<BoardDto> board = BoardRenderer.render(new ChessGame(new RoomName(ROOM_NAME)).getChessboard());
+            gameRepository.save(board, new GameRoomDto(ROOM_NAME, true));
+
+            boolean updated = gameRepository.updateSquares(
+                    List.of(new BoardDto("e2", "."), new BoardDto("e4", "p")), new GameRoomDto(ROOM_NAME, false));
+
+            assertThat(updated).isTrue();
+            assertThat(gameRepository.updateSquares(List.of(), new GameRoomDto("none", true))).isFalse();
+            assertThat(gameRepository.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isFalse();
+            assertThat(gameRepository.findBoardByRoomName(ROOM_NAME))
+                    .filteredOn(boardDto -> boardDto.getSource().equals("e4"))
+                    .extracting(BoardDto::getPiece)
+                    .containsExactly("p");
+        }
+    }
+
+    @DisplayName("삭제한 방의 자리는 다른 방이 다시 사용한다.")
+    @Test
+    void reuseDeletedSlotTest() {
+        try (MappedFileGameRepository gameRepository = new MappedFileGameRepository(directory.resolve("rooms.dat"), 1)) {
+            gameRepository.save(List.of(), new GameRoomDto(ROOM_NAME, true));
+            gameRepository.deleteAllByName(ROOM_NAME);
+            gameRepository.save(List.of(), new GameRoomDto("other", true));
+
+            assertThat(gameRepository.findGameRoomByName(ROOM_NAME)).isEmpty();
+            assertThat(gameRepository.findGameRoomByName("other")).isPresent();
+        }
+    }
+
+    @DisplayName("저장 공간이 가득 차면 새 방을 저장할 수 없다.")
+    @Test
+    void fullTest() {
+        try (MappedFileGameRepository gameRepository = new MappedFileGameRepository(directory.resolve("rooms.dat"), 1)) {
+            gameRepository.save(List.of(), new GameRoomDto(ROOM_NAME, true));
+
+            assertThatThrownBy(() -> gameRepository.save(List.of(), new GameRoomDto("other", true)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.domain.move.Move;
+import chess.domain.piece.Camp;
+import chess.domain.piece.PieceType;
+import chess.util.FenRenderer;
+import chess.util.SquareRenderer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoveJournalTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:journal;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final RoomName ROOM_NAME = new RoomName("journal");
+
+    private final DataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "");
+    private final MoveLogDao moveLogDao = new MoveLogDao(dataSource);
+    private MoveJournal moveJournal;
+
+    @BeforeEach
+    void setup() {
+        SchemaInitializer.initialize(dataSource);
+        moveLogDao.deleteAllByName(ROOM_NAME.getRoomName());
+        moveJournal = new MoveJournal(moveLogDao, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        moveJournal.close();
+    }
+
+    @DisplayName("마지막 스냅샷에 이후의 수를 다시 두어 게임을 복원한다.")
+    @Test
+    void restoreTest() {
+        ChessGame chessGame = new ChessGame(ROOM_NAME);
+        moveJournal.start(chessGame);
+
+        move(chessGame, "e2", "e4");
+        move(chessGame, "e7", "e5");
+        move(chessGame, "g1", "f3");
+        moveJournal.flush();
+
+        ChessGame restored = new MoveJournal(moveLogDao, 2).restore(ROOM_NAME).orElseThrow();
+
+        assertThat(moveLogDao.findLatestSnapshot(ROOM_NAME.getRoomName()).orElseThrow().getPly()).isEqualTo(2);
+        assertThat(restored.getChessboard().getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(restored.isWhiteTurn()).isFalse();
+    }
+
+    @DisplayName("승급한 기물까지 복원한다.")
+    @Test
+    void restorePromotionTest() {
+        ChessGame chessGame = FenRenderer.render(ROOM_NAME, "4k3/P7/8/8/8/8/8/4K3 w - -");
+        Square source = Square.getInstanceOf(File.A, Rank.SEVEN);
+        Square target = Square.getInstanceOf(File.A, Rank.EIGHT);
+        moveJournal.start(chessGame);
+
+        chessGame.move(source, target, PieceType.KNIGHT);
+        moveJournal.record(chessGame, Move.of(source.getIndex(), target.getIndex(), PieceType.KNIGHT));
+        moveJournal.flush();
+
+        ChessGame restored = new MoveJournal(moveLogDao, 2).restore(ROOM_NAME).orElseThrow();
+
+        assertThat(restored.getChessboard().getPieceAt(target))
+                .isEqualTo(PieceType.KNIGHT.createPiece(Camp.WHITE));
+    }
+
+    @DisplayName("기록을 지운 방은 복원할 수 없다.")
+    @Test
+    void clearTest() {
+        ChessGame chessGame = new ChessGame(ROOM_NAME);
+        moveJournal.start(chessGame);
+        move(chessGame, "e2", "e4");
+
+        moveJournal.clear(ROOM_NAME.getRoomName());
+        moveJournal.flush();
+
+        assertThat(moveJournal.restore(ROOM_NAME)).isEmpty();
+    }
+
+    @DisplayName("기록을 시작하지 않은 방의 수는 기록할 수 없다.")
+    @Test
+    void recordWithoutStartTest() {
+        ChessGame chessGame = new ChessGame(ROOM_NAME);
+
+        assertThatThrownBy(() -> moveJournal.record(chessGame, Move.of(52, 36)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private void move(ChessGame chessGame, String source, String target) {
+        Square sourceSquare = SquareRenderer.render(source);
+        Square targetSquare = SquareRenderer.render(target);
+
+        chessGame.move(sourceSquare, targetSquare);
+        moveJournal.record(chessGame, Move.of(sourceSquare, targetSquare));
+    }
+}
@@ -0,0 +1,78 @@
+package chess.dao;
+
+import chess.dto.MoveLogDto;
+import chess.dto.SnapshotDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoveLogWriterTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:writer;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String ROOM_NAME = "writer";
+
+    private final DataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "");
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private final MoveLogDao moveLogDao = new MoveLogDao(dataSource) {
+        @Override
+        public void append(List<MoveLogDto> moveLogs, List<SnapshotDto> snapshots) {
+            if (failing.get()) {
+                throw new RuntimeException();
+            }
+            super.append(moveLogs, snapshots);
+        }
+    };
+    private MoveLogWriter moveLogWriter;
+
+    @BeforeEach
+    void setup() {
+        SchemaInitializer.initialize(dataSource);
+        moveLogDao.deleteAllByName(ROOM_NAME);
+        moveLogWriter = new MoveLogWriter(moveLogDao);
+    }
+
+    @AfterEach
+    void tearDown() {
+        failing.set(false);
+        moveLogWriter.close();
+    }
+
+    @DisplayName("기록에 실패한 기보는 버리지 않고 다시 기록한다.")
+    @Test
+    void retryFailedBatchTest() {
+        failing.set(true);
+        moveLogWriter.append(new MoveLogDto(ROOM_NAME, 1, "e2", "e4", null));
+
+        assertThatThrownBy(moveLogWriter::flush)
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(moveLogWriter.getPendingCount()).isOne();
+        assertThat(moveLogWriter.getFailureCount()).isPositive();
+
+        failing.set(false);
+        moveLogWriter.append(new MoveLogDto(ROOM_NAME, 2, "e7", "e5", null));
+        moveLogWriter.flush();
+
+        assertThat(moveLogWriter.getPendingCount()).isZero();
+        assertThat(moveLogDao.findMovesAfter(ROOM_NAME, 0))
+                .extracting(MoveLogDto::getPly)
+                .containsExactly(1, 2);
+    }
+
+    @DisplayName("기록하지 못한 기보가 남아 있으면 종료할 때 알린다.")
+    @Test
+    void closeWithUnwrittenTest() {
+        failing.set(true);
+        moveLogWriter.append(new MoveLogDto(ROOM_NAME, 1, "e2", "e4", null));
+
+        assertThatThrownBy(moveLogWriter::close)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("기보를 기록하지 못했습니다. 남은 기록: 1건");
+    }
+}
@@ -0,0 +1,134 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.BitboardChessboard;
+import chess.domain.board.Board;
+import chess.dto.ArchivedRoomDto;
+import chess.dto.GameRoomDto;
+import chess.dto.MoveLogDto;
+import chess.util.BoardCodec;
+import chess.util.BoardRenderer;
+import chess.util.SquareRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomArchiveJobTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:archive;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final Duration MAX_IDLE = Duration.ofDays(30);
+
+    private final DataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "");
+    private final JdbcDao jdbcDao = new JdbcDao(dataSource);
+    private final MoveLogDao moveLogDao = new MoveLogDao(dataSource);
+
+    @TempDir
+    Path directory;
+
+    @BeforeEach
+    void setup() {
+        SchemaInitializer.initialize(dataSource);
+        for (int room = 0; room < 7; room++) {
+            jdbcDao.deleteAllByName("old" + room);
+        }
+        jdbcDao.deleteAllByName("active");
+    }
+
+    @DisplayName("오래된 방만 압축 파일로 보관한 뒤 나누어 삭제한다.")
+    @Test
+    void runTest() throws SQLException {
+        ChessGame chessGame = new ChessGame(new RoomName("old0"));
+        chessGame.move(SquareRenderer.render("e2"), SquareRenderer.render("e4"));
+        for (int room = 0; room < 7; room++) {
+            jdbcDao.save(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto("old" + room, false));
+            makeIdle("old" + room);
+        }
+        jdbcDao.save(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto("active", true));
+        moveLogDao.append(List.of(new MoveLogDto("old0", 1, "e2", "e4", null)), List.of());
+        Path archivePath = directory.resolve("rooms.gz");
+
+        int purged = new RoomArchiveJob(dataSource, 3).run(MAX_IDLE, archivePath);
+        List<ArchivedRoomDto> archivedRooms = RoomArchiveJob.readArchive(archivePath);
+
+        assertThat(purged).isEqualTo(7);
+        assertThat(archivedRooms).extracting(ArchivedRoomDto::getRoomName)
+                .containsExactlyInAnyOrder("old0", "old1", "old2", "old3", "old4", "old5", "old6");
+        assertThat(jdbcDao.findGameRoomByName("old0")).isEmpty();
+        assertThat(jdbcDao.findBoardByRoomName("old0")).isEmpty();
+        assertThat(moveLogDao.findMovesAfter("old0", 0)).isEmpty();
+        assertThat(jdbcDao.findGameRoomByName("active")).isPresent();
+
+        Board board = new BitboardChessboard();
+        BoardCodec.decode(archivedRooms.get(0).getBoardState(), board);
+        assertThat(board.getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(BoardCodec.isWhiteTurn(archivedRooms.get(0).getBoardState())).isFalse();
+    }
+
+    @DisplayName("갱신된 방은 다시 활성 상태가 되어 보관하지 않는다.")
+    @Test
+    void touchTest() throws SQLException {
+        jdbcDao.save(BoardRenderer.render(new ChessGame(new RoomName("old0")).getChessboard()),
+                new GameRoomDto("old0", true));
+        makeIdle("old0");
+        jdbcDao.updateSquares(List.of(), new GameRoomDto("old0", false));
+        Path archivePath = directory.resolve("rooms.gz");
+
+        int purged = new RoomArchiveJob(dataSource, 3).run(MAX_IDLE, archivePath);
+
+        assertThat(purged).isZero();
+        assertThat(RoomArchiveJob.readArchive(archivePath)).isEmpty();
+        assertThat(jdbcDao.findGameRoomByName("old0")).isPresent();
+    }
+
+    @DisplayName("실행마다 새 보관 파일을 만들고 기존 보관 파일은 덮어쓰지 않는다.")
+    @Test
+    void keepPreviousArchiveTest() throws SQLException {
+        RoomArchiveJob roomArchiveJob = new RoomArchiveJob(dataSource, 3);
+        Path basePath = directory.resolve("rooms.gz");
+        Path firstPath = RoomArchiveJob.resolveRunPath(basePath, Instant.parse("2026-10-01T00:00:00Z"));
+        Path secondPath = RoomArchiveJob.resolveRunPath(basePath, Instant.parse("2026-10-02T00:00:00Z"));
+        saveIdleRoom("old0");
+        roomArchiveJob.run(MAX_IDLE, firstPath);
+        saveIdleRoom("old1");
+
+        roomArchiveJob.run(MAX_IDLE, secondPath);
+
+        assertThat(firstPath.getFileName()).hasToString("rooms-20261001-000000000.gz");
+        assertThat(RoomArchiveJob.readArchive(firstPath)).extracting(ArchivedRoomDto::getRoomName)
+                .containsExactly("old0");
+        assertThat(RoomArchiveJob.readArchive(secondPath)).extracting(ArchivedRoomDto::getRoomName)
+                .containsExactly("old1");
+        assertThatThrownBy(() -> roomArchiveJob.run(MAX_IDLE, firstPath))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(RoomArchiveJob.readArchive(firstPath)).hasSize(1);
+    }
+
+    private void saveIdleRoom(String roomName) throws SQLException {
+        jdbcDao.save(BoardRenderer.render(new ChessGame(new RoomName(roomName)).getChessboard()),
+                new GameRoomDto(roomName, true));
+        makeIdle(roomName);
+    }
+
+    private void makeIdle(String roomName) throws SQLException {
+        String query = "UPDATE room SET updated_at = TIMESTAMPADD(DAY, -40, CURRENT_TIMESTAMP) WHERE room_name = ?";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement prepareStatement = connection.prepareStatement(query)) {
+            prepareStatement.setString(1, roomName);
+            prepareStatement.executeUpdate();
+        }
+    }
+}
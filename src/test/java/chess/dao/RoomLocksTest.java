@@ -0,0 +1,19 @@
+package chess.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomLocksTest {
+    @DisplayName("잠금 개수는 2의 거듭제곱으로 올림한다.")
+    @Test
+    void stripeCountTest() {
+        assertThat(new RoomLocks(1).getStripeCount()).isEqualTo(1);
+        assertThat(new RoomLocks(48).getStripeCount()).isEqualTo(64);
+        assertThat(new RoomLocks(64).getStripeCount()).isEqualTo(64);
+        assertThatThrownBy(() -> new RoomLocks(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
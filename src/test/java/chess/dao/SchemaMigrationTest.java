@@ -0,0 +1,67 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SchemaMigrationTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:schema;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final DataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "");
+
+    @BeforeEach
+    void setup() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("CREATE TABLE room (room_id INT NOT NULL AUTO_INCREMENT, "
+                    + "room_name VARCHAR(10) NOT NULL, is_white_turn BOOLEAN NOT NULL, "
+                    + "PRIMARY KEY (room_id), UNIQUE (room_name))");
+            statement.execute("INSERT INTO room (room_name, is_white_turn) VALUES('legacy', TRUE)");
+        }
+    }
+
+    @DisplayName("기존 방 테이블에 없는 컬럼과 테이블을 여러 번 실행해도 한 번만 추가한다.")
+    @Test
+    void migrateTest() throws SQLException {
+        SchemaMigration.migrate(dataSource);
+        SchemaMigration.migrate(dataSource);
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            ResultSet room = statement.executeQuery("SELECT updated_at, board_state FROM room WHERE room_name = 'legacy'");
+            assertThat(room.next()).isTrue();
+            assertThat(room.getTimestamp("updated_at")).isNotNull();
+            assertThat(room.getBytes("board_state")).isNull();
+
+            ResultSet moveLog = statement.executeQuery("SELECT COUNT(*) FROM move_log");
+            assertThat(moveLog.next()).isTrue();
+        }
+    }
+
+    @DisplayName("이전 스키마도 옮긴 뒤에는 방을 저장하고 불러올 수 있다.")
+    @Test
+    void saveAfterMigrateTest() {
+        SchemaMigration.migrate(dataSource);
+        JdbcDao jdbcDao = new JdbcDao(dataSource);
+        ChessGame chessGame = new ChessGame(new RoomName("migrated"));
+
+        jdbcDao.save(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto("migrated", true));
+
+        ChessGame loaded = jdbcDao.loadGame(new RoomName("migrated"));
+        assertThat(loaded.getChessboard().getBoardMap()).isEqualTo(chessGame.getChessboard().getBoardMap());
+        assertThat(loaded.isWhiteTurn()).isTrue();
+    }
+}
@@ -0,0 +1,250 @@
+package chess.dao;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.Board;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.BoardRenderer;
+import chess.util.SquareRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindQueueTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:write-behind;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String ROOM_NAME = "behind";
+    private static final String OTHER_ROOM_NAME = "behind2";
+
+    private final DataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "");
+    private final JdbcDao jdbcDao = new JdbcDao(dataSource);
+
+    @BeforeEach
+    void setup() {
+        SchemaInitializer.initialize(dataSource);
+        jdbcDao.deleteAllByName(ROOM_NAME);
+        jdbcDao.deleteAllByName(OTHER_ROOM_NAME);
+    }
+
+    @DisplayName("같은 방의 연속된 저장 요청은 하나로 합쳐져 마지막 상태만 기록된다.")
+    @Test
+    void coalesceTest() {
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(jdbcDao, 8, 8, Duration.ofMinutes(1));
+        ChessGame chessGame = new ChessGame(new RoomName(ROOM_NAME));
+
+        submit(writeBehindQueue, chessGame);
+        move(chessGame, "e2", "e4");
+        submit(writeBehindQueue, chessGame);
+        move(chessGame, "e7", "e5");
+        submit(writeBehindQueue, chessGame);
+
+        assertThat(writeBehindQueue.getPendingCount()).isEqualTo(1);
+        assertThat(writeBehindQueue.getCoalescedCount()).isEqualTo(2);
+
+        writeBehindQueue.close();
+
+        assertThat(writeBehindQueue.getWrittenCount()).isEqualTo(1);
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isTrue();
+        assertThat(jdbcDao.findBoardByRoomName(ROOM_NAME))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(BoardRenderer.render(chessGame.getChessboard()));
+    }
+
+    @DisplayName("이미 저장된 방은 합쳐진 변경 칸만 반영한다.")
+    @Test
+    void mergeChangedSquaresTest() {
+        ChessGame chessGame = new ChessGame(new RoomName(ROOM_NAME));
+        jdbcDao.save(BoardRenderer.render(chessGame.getChessboard()), new GameRoomDto(ROOM_NAME, true));
+        chessGame.getChessboard().clearDirtySquares();
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(jdbcDao, 8, 8, Duration.ofMinutes(1));
+
+        move(chessGame, "e2", "e4");
+        submit(writeBehindQueue, chessGame);
+        move(chessGame, "d7", "d5");
+        submit(writeBehindQueue, chessGame);
+        move(chessGame, "e4", "d5");
+        submit(writeBehindQueue, chessGame);
+        writeBehindQueue.close();
+
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME).orElseThrow().isWhiteTurn()).isFalse();
+        assertThat(jdbcDao.findBoardByRoomName(ROOM_NAME))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(BoardRenderer.render(chessGame.getChessboard()));
+    }
+
+    @DisplayName("대기 중인 방이 플러시 크기에 도달하면 백그라운드에서 기록한다.")
+    @Test
+    void flushBySizeTest() throws InterruptedException {
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(jdbcDao, 8, 2, Duration.ofMinutes(1));
+
+        submit(writeBehindQueue, new ChessGame(new RoomName(ROOM_NAME)));
+        submit(writeBehindQueue, new ChessGame(new RoomName(OTHER_ROOM_NAME)));
+        awaitWritten(writeBehindQueue, 2);
+
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME)).isPresent();
+        assertThat(jdbcDao.findGameRoomByName(OTHER_ROOM_NAME)).isPresent();
+        writeBehindQueue.close();
+    }
+
+    @DisplayName("플러시 간격이 지나면 플러시 크기에 못 미쳐도 기록한다.")
+    @Test
+    void flushByIntervalTest() throws InterruptedException {
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(jdbcDao, 8, 8, Duration.ofMillis(50));
+
+        submit(writeBehindQueue, new ChessGame(new RoomName(ROOM_NAME)));
+        awaitWritten(writeBehindQueue, 1);
+
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME)).isPresent();
+        writeBehindQueue.close();
+    }
+
+    @DisplayName("저장 뒤에 들어온 삭제 요청은 방을 지운다.")
+    @Test
+    void deleteTest() {
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(jdbcDao, 8, 8, Duration.ofMinutes(1));
+
+        submit(writeBehindQueue, new ChessGame(new RoomName(ROOM_NAME)));
+        writeBehindQueue.flush();
+        writeBehindQueue.delete(ROOM_NAME);
+        writeBehindQueue.close();
+
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME)).isEmpty();
+        assertThat(jdbcDao.findBoardByRoomName(ROOM_NAME)).isEmpty();
+    }
+
+    @DisplayName("종료된 큐에는 저장을 요청할 수 없다.")
+    @Test
+    void closedTest() {
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(jdbcDao, 8, 8, Duration.ofMinutes(1));
+        writeBehindQueue.close();
+
+        assertThatThrownBy(() -> writeBehindQueue.delete(ROOM_NAME))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("종료할 때 저장하지 못한 방이 남으면 예외가 발생한다.")
+    @Test
+    void closeWithUnwrittenTest() {
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(createFailingRepository(new AtomicBoolean(true)),
+                8, 8, Duration.ofMinutes(1));
+        submit(writeBehindQueue, new ChessGame(new RoomName(ROOM_NAME)));
+
+        assertThatThrownBy(writeBehindQueue::close)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("저장하지 못한 방이 있습니다: [" + ROOM_NAME + "]");
+    }
+
+    @DisplayName("기록에 실패해 다시 넣은 방도 용량을 넘지 않는다.")
+    @Test
+    void requeueCapacityTest() throws InterruptedException {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(createFailingRepository(failing),
+                2, 2, Duration.ofMinutes(1));
+        submit(writeBehindQueue, new ChessGame(new RoomName(ROOM_NAME)));
+        submit(writeBehindQueue, new ChessGame(new RoomName(OTHER_ROOM_NAME)));
+        awaitFailed(writeBehindQueue, 2);
+
+        CompletableFuture<Void> blocked = CompletableFuture.runAsync(
+                () -> submit(writeBehindQueue, new ChessGame(new RoomName("behind3"))));
+        Thread.sleep(100);
+
+        assertThat(blocked).isNotDone();
+        assertThat(writeBehindQueue.getPendingCount()).isEqualTo(2);
+
+        failing.set(false);
+        writeBehindQueue.flush();
+        blocked.join();
+        writeBehindQueue.close();
+
+        assertThat(writeBehindQueue.getWrittenCount()).isEqualTo(3);
+    }
+
+    @DisplayName("한 방만 플러시하면 다른 방은 대기열에 남는다.")
+    @Test
+    void flushRoomTest() {
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(jdbcDao, 8, 8, Duration.ofMinutes(1));
+        submit(writeBehindQueue, new ChessGame(new RoomName(ROOM_NAME)));
+        submit(writeBehindQueue, new ChessGame(new RoomName(OTHER_ROOM_NAME)));
+
+        writeBehindQueue.flush(ROOM_NAME);
+
+        assertThat(jdbcDao.findGameRoomByName(ROOM_NAME)).isPresent();
+        assertThat(jdbcDao.findGameRoomByName(OTHER_ROOM_NAME)).isEmpty();
+        assertThat(writeBehindQueue.getPendingCount()).isOne();
+        writeBehindQueue.close();
+    }
+
+    @DisplayName("한 방의 플러시가 실패하면 예외가 발생하고 대기열에 다시 넣는다.")
+    @Test
+    void flushRoomFailureTest() {
+        AtomicBoolean failing = new AtomicBoolean(true);
+        WriteBehindQueue writeBehindQueue = new WriteBehindQueue(createFailingRepository(failing),
+                8, 8, Duration.ofMinutes(1));
+        submit(writeBehindQueue, new ChessGame(new RoomName(ROOM_NAME)));
+
+        assertThatThrownBy(() -> writeBehindQueue.flush(ROOM_NAME))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("방을 저장하지 못했습니다: " + ROOM_NAME);
+        assertThat(writeBehindQueue.getPendingCount()).isOne();
+
+        failing.set(false);
+        writeBehindQueue.close();
+    }
+
+    @DisplayName("플러시 크기는 용량보다 클 수 없다.")
+    @Test
+    void validateTest() {
+        assertThatThrownBy(() -> new WriteBehindQueue(jdbcDao, 1, 2, Duration.ofMinutes(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void submit(WriteBehindQueue writeBehindQueue, ChessGame chessGame) {
+        Board board = chessGame.getChessboard();
+        List<BoardDto> changedBoardDto = BoardRenderer.render(board, board.getDirtySquares());
+
+        writeBehindQueue.update(new GameRoomDto(chessGame.getRoomName(), chessGame.isWhiteTurn()),
+                chessGame.getPosition(), changedBoardDto);
+        board.clearDirtySquares();
+    }
+
+    private void move(ChessGame chessGame, String source, String target) {
+        chessGame.move(SquareRenderer.render(source), SquareRenderer.render(target));
+    }
+
+    private GameRepository createFailingRepository(AtomicBoolean failing) {
+        return new InMemoryGameRepository() {
+            @Override
+            public void save(List<BoardDto> boardDtoList, GameRoomDto gameRoomDto) {
+                if (failing.get()) {
+                    throw new IllegalStateException("저장 실패");
+                }
+                super.save(boardDtoList, gameRoomDto);
+            }
+        };
+    }
+
+    private void awaitFailed(WriteBehindQueue writeBehindQueue, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+
+        while (writeBehindQueue.getFailedCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void awaitWritten(WriteBehindQueue writeBehindQueue, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+
+        while (writeBehindQueue.getWrittenCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -24,6 +24,16 @@ class KingTest {
                 .isFalse();
     }
 
+    @DisplayName("한 방향으로만 1칸이더라도 다른 방향으로 2칸 이상 떨어진 경우, 이동할 수 없다.")
+    @Test
+    void cantMoveOverMovableDistanceInOtherDirection() {
+        Square source = Square.getInstanceOf(File.A, Rank.ONE);
+        Square target = Square.getInstanceOf(File.H, Rank.TWO);
+
+        assertThat(king.canMove(source, target))
+                .isFalse();
+    }
+
     @DisplayName("이동 거리가 1인 경우, 이동할 수 있다.")
     @Test
     void canMoveTestWithMovableRankDistance() {
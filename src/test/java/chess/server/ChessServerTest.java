@@ -0,0 +1,116 @@
+package chess.server;
+
+import chess.dao.InMemoryGameRepository;
+import chess.dao.WriteBehindQueue;
+import chess.util.FenRenderer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChessServerTest {
+    private final InMemoryGameRepository gameRepository = new InMemoryGameRepository();
+    private WriteBehindQueue writeBehindQueue;
+    private ChessServer chessServer;
+
+    @BeforeEach
+    void setup() {
+        writeBehindQueue = new WriteBehindQueue(gameRepository, 64, 16, Duration.ofMillis(50));
+        RoomCommandHandler commandHandler = new RoomCommandHandler(gameRepository, writeBehindQueue);
+        RoomRegistry roomRegistry = new RoomRegistry(commandHandler, Executors.newFixedThreadPool(4), 1024,
+                Duration.ofMinutes(5), Duration.ofMinutes(1));
+        chessServer = new ChessServer(0, commandHandler, roomRegistry, Executors.newCachedThreadPool());
+        chessServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        chessServer.close();
+        writeBehindQueue.close();
+    }
+
+    @DisplayName("방에 입장해 기물을 움직이고 점수를 확인한다.")
+    @Test
+    void playTest() throws IOException {
+        try (Client client = new Client(chessServer.getPort())) {
+            assertThat(client.send("join server")).isEqualTo("OK " + FenRenderer.INITIAL_POSITION);
+            assertThat(client.send("move e2 e4"))
+                    .isEqualTo("OK rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b - - 0 1");
+            assertThat(client.send("move e2 e4")).startsWith("ERROR ");
+            assertThat(client.send("status")).isEqualTo("STATUS 38.0 38.0 PLAYING");
+            assertThat(client.send("quit")).isEqualTo("BYE");
+        }
+
+        writeBehindQueue.flush();
+        assertThat(gameRepository.findGameRoomByName("server").orElseThrow().isWhiteTurn()).isFalse();
+    }
+
+    @DisplayName("방에 입장하지 않으면 명령을 실행할 수 없다.")
+    @Test
+    void notJoinedTest() throws IOException {
+        try (Client client = new Client(chessServer.getPort())) {
+            assertThat(client.send("move e2 e4")).isEqualTo("ERROR 먼저 join 명령으로 방에 입장해야 합니다.");
+        }
+    }
+
+    @DisplayName("여러 방의 게임을 동시에 진행한다.")
+    @Test
+    void multiRoomTest() {
+        List<CompletableFuture<String>> games = new ArrayList<>();
+
+        for (int room = 0; room < 50; room++) {
+            String roomName = "room" + room;
+            games.add(CompletableFuture.supplyAsync(() -> play(roomName)));
+        }
+
+        assertThat(games).allSatisfy(game -> assertThat(game.join())
+                .isEqualTo("OK rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w - - 0 1"));
+        assertThat(chessServer.getRoomCount()).isEqualTo(50);
+    }
+
+    private String play(String roomName) {
+        try (Client client = new Client(chessServer.getPort())) {
+            client.send("join " + roomName);
+            client.send("move e2 e4");
+            return client.send("move e7 e5");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Client implements AutoCloseable {
+        private final Socket socket;
+        private final BufferedReader reader;
+        private final PrintWriter writer;
+
+        private Client(int port) throws IOException {
+            this.socket = new Socket("localhost", port);
+            this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            this.writer = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+        }
+
+        private String send(String command) throws IOException {
+            writer.println(command);
+            return reader.readLine();
+        }
+
+        @Override
+        public void close() throws IOException {
+            socket.close();
+        }
+    }
+}
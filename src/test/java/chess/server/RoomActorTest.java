@@ -0,0 +1,64 @@
+package chess.server;
+
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomActorTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("한 방의 메시지는 들어온 순서대로 하나씩 처리한다.")
+    @Test
+    void serializedTest() {
+        AtomicInteger loadCount = new AtomicInteger();
+        RoomActor roomActor = new RoomActor(() -> {
+            loadCount.incrementAndGet();
+            return new ChessGame(new RoomName("actor"));
+        }, executor);
+        List<Integer> handled = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            int message = i;
+            results.add(roomActor.ask(chessGame -> {
+                handled.add(message);
+                return message;
+            }));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture<?>[]::new)).join();
+
+        assertThat(loadCount).hasValue(1);
+        assertThat(handled).hasSize(10_000).isSorted();
+    }
+
+    @DisplayName("메시지 처리 중 발생한 예외는 해당 요청에만 전달된다.")
+    @Test
+    void exceptionTest() {
+        RoomActor roomActor = new RoomActor(() -> new ChessGame(new RoomName("actor")), executor);
+
+        CompletableFuture<Object> failed = roomActor.ask(chessGame -> {
+            throw new IllegalArgumentException("실패");
+        });
+        CompletableFuture<Boolean> succeeded = roomActor.ask(ChessGame::isWhiteTurn);
+
+        assertThatThrownBy(failed::join).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(succeeded.join()).isTrue();
+    }
+}
@@ -0,0 +1,79 @@
+package chess.server;
+
+import chess.dao.DriverManagerDataSource;
+import chess.dao.InMemoryGameRepository;
+import chess.dao.MoveJournal;
+import chess.dao.MoveLogDao;
+import chess.dao.SchemaInitializer;
+import chess.dao.WriteBehindQueue;
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.util.FenRenderer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoomCommandHandlerTest {
+    private static final String EMBEDDED_URL = "jdbc:h2:mem:handler;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final RoomName ROOM_NAME = new RoomName("handler");
+
+    private final DataSource dataSource = new DriverManagerDataSource(EMBEDDED_URL, "sa", "");
+    private final MoveLogDao moveLogDao = new MoveLogDao(dataSource);
+    private WriteBehindQueue writeBehindQueue;
+    private MoveJournal moveJournal;
+
+    @BeforeEach
+    void setup() {
+        SchemaInitializer.initialize(dataSource);
+        moveLogDao.deleteAllByName(ROOM_NAME.getRoomName());
+        writeBehindQueue = new WriteBehindQueue(new InMemoryGameRepository(), 64, 16, Duration.ofMinutes(1));
+        moveJournal = new MoveJournal(moveLogDao, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        writeBehindQueue.close();
+        moveJournal.close();
+    }
+
+    @DisplayName("둔 수를 기보에 남겨 저장되지 않은 게임도 기보로 복원한다.")
+    @Test
+    void restoreFromJournalTest() {
+        RoomCommandHandler commandHandler = new RoomCommandHandler(new InMemoryGameRepository(), writeBehindQueue,
+                Optional.of(moveJournal));
+        ChessGame chessGame = commandHandler.load(ROOM_NAME);
+        commandHandler.handle(chessGame, List.of("move", "e2", "e4"));
+        commandHandler.handle(chessGame, List.of("move", "e7", "e5"));
+        commandHandler.handle(chessGame, List.of("move", "g1", "f3"));
+        moveJournal.flush();
+
+        try (MoveJournal restartedJournal = new MoveJournal(moveLogDao, 2)) {
+            RoomCommandHandler restarted = new RoomCommandHandler(new InMemoryGameRepository(), writeBehindQueue,
+                    Optional.of(restartedJournal));
+
+            assertThat(FenRenderer.render(restarted.load(ROOM_NAME).getPosition()))
+                    .isEqualTo(FenRenderer.render(chessGame.getPosition()));
+        }
+    }
+
+    @DisplayName("방을 저장해 내보내면 기보를 비운다.")
+    @Test
+    void clearJournalOnPersistTest() {
+        RoomCommandHandler commandHandler = new RoomCommandHandler(new InMemoryGameRepository(), writeBehindQueue,
+                Optional.of(moveJournal));
+        ChessGame chessGame = commandHandler.load(ROOM_NAME);
+        commandHandler.handle(chessGame, List.of("move", "e2", "e4"));
+
+        commandHandler.persist(chessGame);
+
+        assertThat(moveJournal.restore(ROOM_NAME)).isEmpty();
+    }
+}
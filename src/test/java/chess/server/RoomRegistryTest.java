@@ -0,0 +1,152 @@
+package chess.server;
+
+import chess.dao.InMemoryGameRepository;
+import chess.dao.WriteBehindQueue;
+import chess.domain.ChessGame;
+import chess.domain.RoomName;
+import chess.domain.board.File;
+import chess.domain.board.Rank;
+import chess.domain.board.Square;
+import chess.dto.BoardDto;
+import chess.dto.GameRoomDto;
+import chess.util.FenRenderer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RoomRegistryTest {
+    private static final Duration MAX_IDLE = Duration.ofSeconds(5);
+    private static final String MOVED_POSITION = "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b - - 0 1";
+
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private final InMemoryGameRepository gameRepository = new InMemoryGameRepository() {
+        @Override
+        public void save(List<BoardDto> boardDtoList, GameRoomDto gameRoomDto) {
+            if (failing.get()) {
+                throw new IllegalStateException("저장 실패");
+            }
+            super.save(boardDtoList, gameRoomDto);
+        }
+    };
+    private final AtomicLong clock = new AtomicLong();
+    private final ExecutorService roomExecutor = Executors.newSingleThreadExecutor();
+    private WriteBehindQueue writeBehindQueue;
+    private RoomCommandHandler commandHandler;
+
+    @BeforeEach
+    void setup() {
+        writeBehindQueue = new WriteBehindQueue(gameRepository, 64, 16, Duration.ofMinutes(1));
+        commandHandler = new RoomCommandHandler(gameRepository, writeBehindQueue);
+    }
+
+    @AfterEach
+    void tearDown() {
+        failing.set(false);
+        writeBehindQueue.close();
+        roomExecutor.shutdownNow();
+    }
+
+    @DisplayName("유휴 시간이 지난 방은 저장 후 메모리에서 내보낸다.")
+    @Test
+    void evictIdleRoomTest() {
+        try (RoomRegistry roomRegistry = createRegistry(16)) {
+            RoomName roomName = new RoomName("idle");
+            roomRegistry.ask(roomName, this::moveE2E4).join();
+
+            clock.addAndGet(MAX_IDLE.toNanos() - 1);
+            assertThat(roomRegistry.evictIdleRooms().join()).isZero();
+            clock.addAndGet(1);
+            assertThat(roomRegistry.evictIdleRooms().join()).isOne();
+
+            assertThat(roomRegistry.getResidentCount()).isZero();
+            assertThat(roomRegistry.getEvictionCount()).isOne();
+            assertThat(gameRepository.findGameRoomByName("idle").orElseThrow().isWhiteTurn()).isFalse();
+            assertThat(roomRegistry.ask(roomName, FenRenderer::render).join()).isEqualTo(MOVED_POSITION);
+            assertThat(roomRegistry.getResidentCount()).isOne();
+        }
+    }
+
+    @DisplayName("방을 저장하지 못하면 내보내지 않고 계속 상주시킨다.")
+    @Test
+    void evictFailureTest() {
+        try (RoomRegistry roomRegistry = createRegistry(16)) {
+            RoomName roomName = new RoomName("failing");
+            roomRegistry.ask(roomName, this::moveE2E4).join();
+            failing.set(true);
+            clock.addAndGet(MAX_IDLE.toNanos());
+
+            assertThat(roomRegistry.evictIdleRooms().join()).isZero();
+            assertThat(roomRegistry.getResidentCount()).isOne();
+            assertThat(roomRegistry.getEvictionCount()).isZero();
+            assertThat(roomRegistry.ask(roomName, FenRenderer::render).join()).isEqualTo(MOVED_POSITION);
+
+            failing.set(false);
+            clock.addAndGet(MAX_IDLE.toNanos());
+            assertThat(roomRegistry.evictIdleRooms().join()).isOne();
+            assertThat(gameRepository.findGameRoomByName("failing").orElseThrow().isWhiteTurn()).isFalse();
+        }
+    }
+
+    @DisplayName("최대 상주 방 개수를 넘으면 가장 오래 쓰이지 않은 방을 내보낸다.")
+    @Test
+    void evictOverflowTest() throws ExecutionException, InterruptedException {
+        try (RoomRegistry roomRegistry = createRegistry(2)) {
+            for (String roomName : new String[]{"first", "second", "third"}) {
+                roomRegistry.ask(new RoomName(roomName), this::moveE2E4).join();
+                clock.addAndGet(1);
+            }
+            roomExecutor.submit(() -> {
+            }).get();
+
+            assertThat(roomRegistry.getResidentCount()).isEqualTo(2);
+            assertThat(roomRegistry.getEvictionCount()).isOne();
+            assertThat(gameRepository.findGameRoomByName("first")).isPresent();
+            assertThat(gameRepository.findGameRoomByName("third")).isEmpty();
+        }
+    }
+
+    @DisplayName("직전 정리 이후 초당 퇴출 수를 계산한다.")
+    @Test
+    void evictionRateTest() {
+        try (RoomRegistry roomRegistry = createRegistry(16)) {
+            roomRegistry.ask(new RoomName("rate"), ChessGame::isWhiteTurn).join();
+            clock.addAndGet(MAX_IDLE.toNanos());
+            roomRegistry.evictIdleRooms().join();
+            assertThat(roomRegistry.getEvictionRate()).isEqualTo(0.2);
+
+            clock.addAndGet(Duration.ofSeconds(2).toNanos());
+            roomRegistry.evictIdleRooms().join();
+            assertThat(roomRegistry.getEvictionRate()).isZero();
+        }
+    }
+
+    @DisplayName("최대 상주 방 개수는 1 이상이어야 한다.")
+    @Test
+    void invalidMaxResidentCountTest() {
+        assertThatThrownBy(() -> createRegistry(0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("최대 상주 방 개수는 1 이상이어야 합니다.");
+    }
+
+    private RoomRegistry createRegistry(int maxResidentCount) {
+        return new RoomRegistry(commandHandler, roomExecutor, maxResidentCount, MAX_IDLE, Duration.ofMinutes(1),
+                clock::get);
+    }
+
+    private String moveE2E4(ChessGame chessGame) {
+        chessGame.move(Square.getInstanceOf(File.E, Rank.TWO), Square.getInstanceOf(File.E, Rank.FOUR));
+        return FenRenderer.render(chessGame);
+    }
+}
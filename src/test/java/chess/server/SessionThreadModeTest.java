@@ -0,0 +1,33 @@
+package chess.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SessionThreadModeTest {
+    @DisplayName("이름으로 세션 스레드 모드를 찾는다.")
+    @Test
+    void fromTest() {
+        assertThat(SessionThreadMode.from("virtual")).isEqualTo(SessionThreadMode.VIRTUAL);
+        assertThatThrownBy(() -> SessionThreadMode.from("fiber"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("가상 스레드는 지원하는 런타임에서만 만들 수 있다.")
+    @Test
+    void virtualExecutorTest() throws Exception {
+        if (!SessionThreadMode.isVirtualThreadSupported()) {
+            assertThatThrownBy(SessionThreadMode.VIRTUAL::createExecutor)
+                    .isInstanceOf(IllegalStateException.class);
+            return;
+        }
+
+        ExecutorService executor = SessionThreadMode.VIRTUAL.createExecutor();
+        assertThat(executor.submit(() -> Thread.currentThread().toString()).get()).contains("Virtual");
+        executor.shutdown();
+    }
+}